@@ -0,0 +1,142 @@
+package com.soham.realty.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.soham.realty.event.PropertyBulkChangeEvent;
+import com.soham.realty.event.PropertyChangeEvent;
+import com.soham.realty.event.PropertyImportEvent;
+import com.soham.realty.search.PropertyDocument;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Appends every committed property write to {@code property_change_log}: one row per listing, with
+ * a deletion marker for deletes. The log feeds {@code PropertyChangeReplicator} on other instances
+ * and the public change feed at {@code GET /api/properties/changes}, so it is written whether or not
+ * cluster sync is enabled. Rows older than {@code app.changes.retention} are removed; feed clients
+ * holding an older token are told to resync.
+ */
+@Component
+@Slf4j
+public class PropertyChangeRecorder {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO property_change_log (property_id, origin, deleted, created_at) VALUES (?, ?, ?, ?)";
+    private static final String CLEANUP_SQL = "DELETE FROM property_change_log WHERE created_at < ? AND id < ?";
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<PropertyChangeTransport> transports;
+    private final Duration retention;
+    private final String nodeId;
+
+    public PropertyChangeRecorder(JdbcTemplate jdbcTemplate,
+                                  ObjectProvider<PropertyChangeTransport> transports,
+                                  @Value("${app.changes.retention:P7D}") Duration retention,
+                                  @Value("${app.cluster.node-id:}") String nodeId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transports = transports;
+        this.retention = retention;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+    }
+
+    /** Identifies this instance in the log's origin column. */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // Written before commit so the log row commits or rolls back with the change itself
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onPropertyChange(PropertyChangeEvent event) {
+        record(Map.of(event.getPropertyId(), event.isDelete()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onPropertyImport(PropertyImportEvent event) {
+        Map<Long, Boolean> changes = new LinkedHashMap<>();
+        for (PropertyDocument document : event.getDocuments()) {
+            changes.put(document.getId(), false);
+        }
+        record(changes);
+    }
+
+    // Replicated events were logged by the instance that made the change
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onPropertyBulkChange(PropertyBulkChangeEvent event) {
+        if (event.isReplicated()) {
+            return;
+        }
+        Map<Long, Boolean> changes = new LinkedHashMap<>();
+        for (PropertyChangeEvent change : event.getChanges()) {
+            changes.put(change.getPropertyId(), change.isDelete());
+        }
+        record(changes);
+    }
+
+    // Property id -> whether the change deleted it
+    private void record(Map<Long, Boolean> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, new ArrayList<>(changes.entrySet()), INSERT_BATCH_SIZE, (ps, change) -> {
+            ps.setLong(1, change.getKey());
+            ps.setString(2, nodeId);
+            ps.setBoolean(3, change.getValue());
+            ps.setTimestamp(4, now);
+        });
+        List<Long> propertyIds = new ArrayList<>(changes.keySet());
+        afterCommit(() -> transports.forEach(transport -> {
+            try {
+                transport.publish(nodeId, propertyIds);
+            } catch (RuntimeException e) {
+                log.warn("Change transport {} failed; other instances will catch up from the log",
+                    transport.getClass().getSimpleName(), e);
+            }
+        }));
+    }
+
+    // The newest row is always kept, so feed tokens stay comparable with the log after a quiet spell
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    public void cleanUp() {
+        Long newest = jdbcTemplate.queryForObject("SELECT MAX(id) FROM property_change_log", Long.class);
+        if (newest == null) {
+            return;
+        }
+        int removed = jdbcTemplate.update(CLEANUP_SQL,
+            Timestamp.valueOf(LocalDateTime.now().minus(retention)), newest);
+        if (removed > 0) {
+            log.info("Removed {} change log rows older than {}", removed, retention);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,200 @@
+package com.soham.realty.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.soham.realty.entity.Property;
+import com.soham.realty.event.PropertyBulkChangeEvent;
+import com.soham.realty.event.PropertyChangeEvent;
+import com.soham.realty.repository.PropertyRepository;
+import com.soham.realty.search.PropertyCatalog;
+import com.soham.realty.search.PropertyDocument;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the caches and in-memory catalog of every instance in step when more than one runs against
+ * the same database.
+ * <p>
+ * Each write appends the ids it changed to {@code property_change_log} in its own transaction (see
+ * {@link PropertyChangeRecorder}). Every instance polls the log by id and replays other instances' rows as a replicated
+ * {@link PropertyBulkChangeEvent} built from the current rows, which updates the catalog and evicts
+ * or refreshes exactly the affected cache entries through the usual listeners. The rows are first
+ * dropped from the Hibernate second-level cache, which only sees this instance's writes. A change is therefore
+ * visible everywhere within one poll interval. {@link PropertyChangeTransport} beans, if any, push the
+ * same ids for lower latency; their messages arrive through {@link #receive}.
+ * <p>
+ * Ids are assigned at insert but rows become visible at commit, so a reader can see id n+1 before n.
+ * Skipped ids are re-checked on later polls until they appear or {@link #GAP_TIMEOUT_MS} passes
+ * (rolled back inserts leave permanent gaps).
+ */
+@Component
+@ConditionalOnProperty(name = "app.cluster.sync.enabled", havingValue = "true")
+@Slf4j
+public class PropertyChangeReplicator implements InitializingBean {
+
+    private static final String POLL_SQL =
+        "SELECT id, property_id, origin FROM property_change_log WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String GAPS_SQL = "SELECT id, property_id, origin FROM property_change_log WHERE id IN (%s)";
+
+    private static final RowMapper<LogRow> ROW_MAPPER = (rs, rowNum) ->
+        new LogRow(rs.getLong("id"), rs.getLong("property_id"), rs.getString("origin"));
+
+    private static final String IMAGES_ROLE = Property.class.getName() + ".images";
+
+    private static final int PAGE_SIZE = 500;
+    private static final long GAP_TIMEOUT_MS = 10_000;
+    // Identity gaps beyond this are not worth tracking id by id
+    private static final int MAX_TRACKED_GAPS = 1_000;
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PropertyRepository propertyRepository;
+    private final PropertyCatalog propertyCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
+    private final String nodeId;
+
+    // Highest log id read so far, and the ids below it that were not visible yet (id -> first missed at)
+    private long cursor;
+    private final Map<Long, Long> gaps = new HashMap<>();
+
+    public PropertyChangeReplicator(JdbcTemplate jdbcTemplate,
+                                    PropertyRepository propertyRepository,
+                                    PropertyCatalog propertyCatalog,
+                                    ApplicationEventPublisher eventPublisher,
+                                    EntityManagerFactory entityManagerFactory,
+                                    PropertyChangeRecorder propertyChangeRecorder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.propertyRepository = propertyRepository;
+        this.propertyCatalog = propertyCatalog;
+        this.eventPublisher = eventPublisher;
+        this.entityManagerFactory = entityManagerFactory;
+        this.nodeId = propertyChangeRecorder.getNodeId();
+    }
+
+    // Earlier rows are already reflected in the catalog, which loads from the tables themselves
+    @Override
+    public void afterPropertiesSet() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM property_change_log", Long.class);
+        cursor = max != null ? max : 0;
+        log.info("Replicating property changes as instance {} from change log id {}", nodeId, cursor);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /** Entry point for {@link PropertyChangeTransport} messages from other instances. */
+    public void receive(String origin, Collection<Long> propertyIds) {
+        if (!nodeId.equals(origin)) {
+            apply(propertyIds);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cluster.sync.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        Set<Long> changed = new LinkedHashSet<>();
+        long now = System.currentTimeMillis();
+
+        if (!gaps.isEmpty()) {
+            String placeholders = gaps.keySet().stream().map(id -> "?").collect(Collectors.joining(","));
+            List<LogRow> late = jdbcTemplate.query(String.format(GAPS_SQL, placeholders), ROW_MAPPER,
+                gaps.keySet().toArray());
+            late.forEach(row -> {
+                gaps.remove(row.id);
+                collect(row, changed);
+            });
+            gaps.values().removeIf(firstMissed -> now - firstMissed > GAP_TIMEOUT_MS);
+        }
+
+        List<LogRow> rows;
+        do {
+            rows = jdbcTemplate.query(POLL_SQL, ROW_MAPPER, cursor, PAGE_SIZE);
+            for (LogRow row : rows) {
+                for (long missing = cursor + 1; missing < row.id && gaps.size() < MAX_TRACKED_GAPS; missing++) {
+                    gaps.put(missing, now);
+                }
+                cursor = row.id;
+                collect(row, changed);
+            }
+        } while (rows.size() == PAGE_SIZE);
+
+        if (!changed.isEmpty()) {
+            apply(changed);
+        }
+    }
+
+    private void collect(LogRow row, Set<Long> changed) {
+        if (!nodeId.equals(row.origin)) {
+            changed.add(row.propertyId);
+        }
+    }
+
+    /**
+     * Compares the catalog with the current rows and publishes whatever differs. Reading the rows
+     * rather than trusting the log makes replaying an id twice, or out of order, harmless.
+     */
+    private synchronized void apply(Collection<Long> propertyIds) {
+        List<Long> ids = new ArrayList<>(propertyIds);
+        evictSecondLevelCache(ids);
+        List<PropertyChangeEvent> changes = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()));
+            Map<Long, PropertyDocument> current = new HashMap<>();
+            for (Property property : propertyRepository.findAllById(chunk)) {
+                current.put(property.getId(), PropertyDocument.from(property));
+            }
+            for (Long id : chunk) {
+                PropertyDocument before = propertyCatalog.get(id).orElse(null);
+                PropertyDocument after = current.get(id);
+                if (!Objects.equals(before, after)) {
+                    changes.add(new PropertyChangeEvent(before, after));
+                }
+            }
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new PropertyBulkChangeEvent(changes, true));
+            log.debug("Replicated {} property changes from other instances", changes.size());
+        }
+    }
+
+    // Hibernate only invalidates its cache for writes made through this instance
+    private void evictSecondLevelCache(List<Long> ids) {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        for (Long id : ids) {
+            cache.evictEntityData(Property.class, id);
+            cache.evictCollectionData(IMAGES_ROLE, id);
+        }
+        cache.evictQueryRegions();
+    }
+
+    private static final class LogRow {
+        private final long id;
+        private final long propertyId;
+        private final String origin;
+
+        private LogRow(long id, long propertyId, String origin) {
+            this.id = id;
+            this.propertyId = propertyId;
+            this.origin = origin;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.soham.realty.cluster;
+
+import java.util.Collection;
+
+/**
+ * Optional push channel between instances (a message broker, Redis pub/sub, ...). Any bean of this
+ * type is handed the ids of every committed change; on the receiving side it passes them to
+ * {@link PropertyChangeReplicator#receive}. The change log is still polled, so a lost message only
+ * delays an update until the next poll.
+ */
+public interface PropertyChangeTransport {
+
+    /** Called after commit on the instance that made the change. Must not block. */
+    void publish(String origin, Collection<Long> propertyIds);
+}
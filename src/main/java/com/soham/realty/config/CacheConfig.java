@@ -1,47 +1,93 @@
-// CacheConfig.java - UPDATED WITH SHORTER CACHE DURATION
 package com.soham.realty.config;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.soham.realty.service.PropertyCacheLoader;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 
-import java.util.Arrays;
-import java.util.concurrent.TimeUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
+/**
+ * Bounded, expiring Caffeine caches. Each cache takes its policy from
+ * {@code app.cache.specs.<cacheName>} (a Caffeine spec such as
+ * {@code maximumSize=2000,expireAfterWrite=10m}) and records hit, miss and eviction statistics.
+ * <p>
+ * The featured and property detail caches are loading caches: a miss runs one load per key while
+ * other callers wait on it, and a {@code refreshAfterWrite} entry is reloaded on the
+ * {@code asyncExecutor} while readers keep the previous value. Writes refresh these entries the same
+ * way (see {@link PropertyCacheRefresher}) instead of evicting them.
+ */
 @Configuration
 @EnableCaching
 @EnableAsync
+@ConfigurationProperties(prefix = "app.cache")
 public class CacheConfig {
 
-//    @Bean
-//    public CacheManager cacheManager() {
-//        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-//        
-//        // FIXED: Shorter cache duration for featured properties to ensure they update quickly
-//        cacheManager.setCaffeine(Caffeine.newBuilder()
-//            .maximumSize(1000)
-//            .expireAfterWrite(2, TimeUnit.MINUTES) // Reduced from 5 to 2 minutes
-//            .recordStats()
-//            .evictionListener((key, value, cause) -> {
-//                System.out.println("Cache evicted - Key: " + key + ", Cause: " + cause);
-//            }));
-//        
-//        cacheManager.setCacheNames(Arrays.asList("featuredProperties", "propertyDetails", "userDetails"));
-//        cacheManager.setAllowNullValues(false);
-//        
-//        return cacheManager;
-//    }
-//}
-
-// Alternative: Simple ConcurrentMapCacheManager (if you prefer not to add Caffeine dependency)
-@Bean
-public CacheManager cacheManager() {
-    ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-    cacheManager.setCacheNames(Arrays.asList("featuredProperties", "propertyDetails", "userDetails"));
-    cacheManager.setAllowNullValues(false);
-    return cacheManager;
-  }
-}
\ No newline at end of file
+    public static final String FEATURED_PROPERTIES = "featuredProperties";
+    public static final String PROPERTY_DETAILS = "propertyDetails";
+    public static final String USER_DETAILS = "userDetails";
+
+    // The featured list is a single entry
+    public static final String FEATURED_KEY = "all";
+
+    // Refreshed entries stay readable while they reload; expiry only drops entries nobody reads
+    private static final Map<String, String> DEFAULT_SPECS = Map.of(
+        FEATURED_PROPERTIES, "maximumSize=10,expireAfterWrite=10m,refreshAfterWrite=1m",
+        PROPERTY_DETAILS, "maximumSize=2000,expireAfterWrite=30m,refreshAfterWrite=5m",
+        USER_DETAILS, "maximumSize=1000,expireAfterWrite=15m");
+
+    // Used for cache names that are neither configured nor listed above
+    private static final String FALLBACK_SPEC = "maximumSize=500,expireAfterWrite=5m";
+
+    private Map<String, String> specs = new HashMap<>();
+
+    // The loader is looked up on first use, as the service it comes from itself depends on the caches
+    @Bean
+    public CacheManager cacheManager(ObjectProvider<PropertyCacheLoader> loaders,
+                                     @Qualifier("asyncExecutor") Executor asyncExecutor) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCaffeine(Caffeine.from(FALLBACK_SPEC).recordStats());
+        policies().forEach((name, spec) -> {
+            Caffeine<Object, Object> builder = Caffeine.from(spec).recordStats().executor(asyncExecutor);
+            CacheLoader<Object, Object> loader = loader(name, loaders);
+            cacheManager.registerCustomCache(name, loader != null ? builder.build(loader) : builder.build());
+        });
+        return cacheManager;
+    }
+
+    private static CacheLoader<Object, Object> loader(String name, ObjectProvider<PropertyCacheLoader> loaders) {
+        return switch (name) {
+            case FEATURED_PROPERTIES -> key -> loaders.getObject().loadFeaturedProperties();
+            case PROPERTY_DETAILS -> key -> loaders.getObject().loadPropertyDetails((Long) key);
+            default -> null;
+        };
+    }
+
+    /** Effective spec per cache name: configured values over the defaults. */
+    public Map<String, String> policies() {
+        Map<String, String> policies = new LinkedHashMap<>(DEFAULT_SPECS);
+        policies.putAll(specs);
+        return policies;
+    }
+
+    public Map<String, String> getSpecs() {
+        return specs;
+    }
+
+    public void setSpecs(Map<String, String> specs) {
+        this.specs = specs;
+    }
+}
@@ -0,0 +1,117 @@
+package com.soham.realty.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.soham.realty.entity.CacheRegions;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level and query cache, kept in Caffeine through JCache. Every region is bounded;
+ * its policy comes from {@code app.cache.hibernate.regions.<region>.maximum-size} and
+ * {@code .expire-after-write}, over the defaults below. Region statistics are served with the
+ * Spring caches at {@code GET /api/admin/caches}.
+ * <p>
+ * Entries are invalidated by Hibernate on every write it makes, so the expiry only bounds how long
+ * a change made outside this instance (another instance, a manual SQL fix) can go unseen.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.cache.hibernate")
+public class HibernateCacheConfig {
+
+    private static final Map<String, RegionPolicy> DEFAULT_REGIONS = Map.of(
+        CacheRegions.PROPERTIES, new RegionPolicy(5_000, Duration.ofMinutes(30)),
+        CacheRegions.PROPERTY_IMAGE_LISTS, new RegionPolicy(5_000, Duration.ofMinutes(30)),
+        CacheRegions.PROPERTY_IMAGES, new RegionPolicy(20_000, Duration.ofMinutes(30)),
+        CacheRegions.USERS, new RegionPolicy(1_000, Duration.ofMinutes(10)),
+        CacheRegions.FEATURED_QUERY, new RegionPolicy(10, Duration.ofMinutes(10)),
+        CacheRegions.PROPERTY_DETAILS_QUERY, new RegionPolicy(5_000, Duration.ofMinutes(30)),
+        CacheRegions.DEFAULT_QUERY_RESULTS, new RegionPolicy(1_000, Duration.ofMinutes(10)),
+        // One entry per table; must outlive every query result that depends on it
+        CacheRegions.UPDATE_TIMESTAMPS, new RegionPolicy(1_000, null));
+
+    private Map<String, RegionPolicy> regions = new HashMap<>();
+
+    // The provider shares managers JVM-wide per URI, so each application context gets its own
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(
+            CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("soham-realty:hibernate:" + UUID.randomUUID()), getClass().getClassLoader());
+        regionPolicies().forEach((region, policy) -> cacheManager.createCache(region, policy.toConfiguration()));
+        return cacheManager;
+    }
+
+    // Defaults for every profile; an explicit spring.jpa.properties.* entry still wins
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCachePropertiesCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+            properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, "true");
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // A region without a policy above would be created unbounded
+            properties.putIfAbsent(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /** Effective policy per region: configured values over the defaults. */
+    public Map<String, RegionPolicy> regionPolicies() {
+        Map<String, RegionPolicy> policies = new LinkedHashMap<>(DEFAULT_REGIONS);
+        policies.putAll(regions);
+        return policies;
+    }
+
+    public Map<String, RegionPolicy> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(Map<String, RegionPolicy> regions) {
+        this.regions = regions;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RegionPolicy {
+        private long maximumSize;
+        // Null keeps entries until they are evicted for size or invalidated
+        private Duration expireAfterWrite;
+
+        CaffeineConfiguration<Object, Object> toConfiguration() {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            if (expireAfterWrite != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+            }
+            configuration.setNativeStatisticsEnabled(true);
+            return configuration;
+        }
+
+        /** Rendered like a Caffeine spec, for the cache statistics endpoint. */
+        public String spec() {
+            return "maximumSize=" + maximumSize
+                + (expireAfterWrite != null ? ",expireAfterWrite=" + expireAfterWrite.toSeconds() + "s" : "");
+        }
+    }
+}
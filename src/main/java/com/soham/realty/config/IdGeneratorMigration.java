@@ -0,0 +1,72 @@
+package com.soham.realty.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.soham.realty.entity.IdGenerators;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Seeds the {@link IdGenerators} table from the existing rows.
+ *
+ * Tables that used AUTO_INCREMENT keep their ids; each generator row starts at MAX(id), the last id
+ * in use, so the first reserved block begins right after it. A row
+ * that has fallen behind (e.g. rows written by an older instance still on IDENTITY) is moved forward,
+ * never back, so running this on every start is safe.
+ */
+@Component
+@Slf4j
+public class IdGeneratorMigration implements InitializingBean {
+
+    // Each generator is keyed by the name of the table it numbers
+    private static final List<String> TABLES = List.of(
+        "properties", "property_images", "contacts", "users", "saved_searches", "saved_search_matches");
+
+    private static final String INSERT_SQL = "INSERT INTO " + IdGenerators.TABLE
+        + " (" + IdGenerators.NAME_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)";
+
+    private static final String ADVANCE_SQL = "UPDATE " + IdGenerators.TABLE
+        + " SET " + IdGenerators.VALUE_COLUMN + " = ?"
+        + " WHERE " + IdGenerators.NAME_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " < ?";
+
+    private static final String CURRENT_SQL = "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE
+        + " WHERE " + IdGenerators.NAME_COLUMN + " = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Taking the EntityManagerFactory makes sure the schema (and the generator table) exists first
+    public IdGeneratorMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        for (String table : TABLES) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            long lastUsed = maxId != null ? maxId : 0L;
+
+            List<Long> current = jdbcTemplate.queryForList(CURRENT_SQL, Long.class, table);
+            if (current.isEmpty() && insert(table, lastUsed)) {
+                log.info("Id generator for {} continues after {}", table, lastUsed);
+            } else if (jdbcTemplate.update(ADVANCE_SQL, lastUsed, table, lastUsed) > 0) {
+                log.info("Id generator for {} moved forward to {}", table, lastUsed);
+            }
+        }
+    }
+
+    // Another instance starting at the same time may have inserted the row first
+    private boolean insert(String table, long lastUsed) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, table, lastUsed);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
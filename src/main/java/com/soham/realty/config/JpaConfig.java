@@ -0,0 +1,26 @@
+package com.soham.realty.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    static final int JDBC_BATCH_SIZE = 50;
+
+    // Defaults for every profile; an explicit spring.jpa.properties.* entry still wins
+    @Bean
+    public HibernatePropertiesCustomizer batchingPropertiesCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(JDBC_BATCH_SIZE));
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, "true");
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, "true");
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, "true");
+            // The id table holds the last id handed out, so IdGeneratorMigration can seed it from MAX(id)
+            properties.putIfAbsent(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+            properties.putIfAbsent(AvailableSettings.TABLE_GENERATOR_STORE_LAST_USED, "true");
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.soham.realty.config;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.soham.realty.event.PropertyBulkChangeEvent;
+import com.soham.realty.event.PropertyChangeEvent;
+import com.soham.realty.event.PropertyImportCompletedEvent;
+import com.soham.realty.search.PropertyCatalog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the featured and property detail caches current after committed writes. Entries are
+ * reloaded in the background rather than evicted, so the burst of reads that follows a write is
+ * answered from the previous value instead of all missing at once. Deleted listings are evicted.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PropertyCacheRefresher {
+
+    // A large bulk change would queue one reload per cached listing; past this it evicts instead
+    private static final int MAX_DETAIL_REFRESHES = 50;
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PropertyCatalog.CACHE_LISTENER_ORDER)
+    public void onPropertyChange(PropertyChangeEvent event) {
+        refreshFeatured();
+        refreshDetails(List.of(event));
+    }
+
+    // Imported rows are new, so no detail entry can be out of date
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PropertyCatalog.CACHE_LISTENER_ORDER)
+    public void onPropertyImport(PropertyImportCompletedEvent event) {
+        refreshFeatured();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PropertyCatalog.CACHE_LISTENER_ORDER)
+    public void onPropertyBulkChange(PropertyBulkChangeEvent event) {
+        refreshFeatured();
+        refreshDetails(event.getChanges());
+    }
+
+    private void refreshFeatured() {
+        Cache featured = cacheManager.getCache(CacheConfig.FEATURED_PROPERTIES);
+        if (featured != null) {
+            refresh(featured, CacheConfig.FEATURED_KEY);
+        }
+    }
+
+    private void refreshDetails(Collection<PropertyChangeEvent> changes) {
+        Cache details = cacheManager.getCache(CacheConfig.PROPERTY_DETAILS);
+        if (details == null) {
+            return;
+        }
+        boolean evictOnly = changes.size() > MAX_DETAIL_REFRESHES;
+        for (PropertyChangeEvent change : changes) {
+            if (change.isDelete() || evictOnly) {
+                details.evict(change.getPropertyId());
+            } else {
+                refresh(details, change.getPropertyId());
+            }
+        }
+    }
+
+    // Only entries someone has read are reloaded; the rest load on their next miss
+    private void refresh(Cache cache, Object key) {
+        if (!(cache.getNativeCache() instanceof LoadingCache<?, ?> loadingCache)) {
+            cache.evict(key);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        LoadingCache<Object, Object> entries = (LoadingCache<Object, Object>) loadingCache;
+        if (!entries.asMap().containsKey(key)) {
+            return;
+        }
+        try {
+            entries.refresh(key).whenComplete((value, failure) -> {
+                if (failure != null) {
+                    log.warn("Refresh of {} in cache {} failed, evicting it", key, cache.getName(), failure);
+                    entries.invalidate(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            // The executor is saturated; a miss on the next read is better than a stale entry
+            log.warn("Could not schedule refresh of {} in cache {}, evicting it", key, cache.getName(), e);
+            entries.invalidate(key);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.soham.realty.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.soham.realty.dto.response.ApiResponse;
+import com.soham.realty.dto.response.CacheStatsResponse;
+import com.soham.realty.dto.response.WarmupReportResponse;
+import com.soham.realty.exception.ResourceNotFoundException;
+import com.soham.realty.service.CacheStatsService;
+import com.soham.realty.service.WarmupService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "${app.cors.allowed-origins}")
+public class CacheController {
+
+    private final CacheStatsService cacheStatsService;
+    private final WarmupService warmupService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success(cacheStatsService.getCacheStats()));
+    }
+
+    // What the startup warm-up loaded, and whether it finished inside its time box
+    @GetMapping("/warmup")
+    public ResponseEntity<ApiResponse<WarmupReportResponse>> getWarmupReport() {
+        WarmupReportResponse report = warmupService.getLastReport()
+            .orElseThrow(() -> new ResourceNotFoundException("Warm-up has not run on this instance"));
+        return ResponseEntity.ok(ApiResponse.success(report));
+    }
+}
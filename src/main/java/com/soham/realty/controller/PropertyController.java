@@ -1,8 +1,22 @@
 package com.soham.realty.controller;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,18 +25,36 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.soham.realty.dto.request.PropertyBulkRequest;
 import com.soham.realty.dto.request.PropertyRequest;
 import com.soham.realty.dto.request.SearchRequest;
 import com.soham.realty.dto.response.ApiResponse;
+import com.soham.realty.dto.response.CursorPageResponse;
 import com.soham.realty.dto.response.PaginatedResponse;
+import com.soham.realty.dto.response.PropertyBulkResponse;
+import com.soham.realty.dto.response.PropertyChangesResponse;
+import com.soham.realty.dto.response.PropertyFacetsResponse;
+import com.soham.realty.dto.response.PropertyImportResponse;
 import com.soham.realty.dto.response.PropertyResponse;
+import com.soham.realty.dto.response.SuggestionResponse;
+import com.soham.realty.exception.BadRequestException;
+import com.soham.realty.search.PropertyResponseCache;
+import com.soham.realty.service.PropertyChangeFeedService;
+import com.soham.realty.service.PropertyExportService;
+import com.soham.realty.service.PropertyImportService;
 import com.soham.realty.service.PropertyService;
+import com.soham.realty.service.PropertyStreamService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,10 +66,36 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PropertyController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     private final PropertyService propertyService;
+    private final PropertyImportService propertyImportService;
+    private final PropertyExportService propertyExportService;
+    private final PropertyChangeFeedService propertyChangeFeedService;
+    private final PropertyStreamService propertyStreamService;
+    private final PropertyResponseCache propertyResponseCache;
+
+    // Shared-cache lifetimes per endpoint; stale-while-revalidate lets a CDN keep serving while it refetches
+    @Value("${app.http.cache.listing.max-age:15}")
+    private long listingMaxAge;
+
+    @Value("${app.http.cache.listing.stale-while-revalidate:60}")
+    private long listingStaleWhileRevalidate;
+
+    @Value("${app.http.cache.featured.max-age:60}")
+    private long featuredMaxAge;
+
+    @Value("${app.http.cache.featured.stale-while-revalidate:300}")
+    private long featuredStaleWhileRevalidate;
+
+    @Value("${app.http.cache.detail.max-age:60}")
+    private long detailMaxAge;
+
+    @Value("${app.http.cache.detail.stale-while-revalidate:300}")
+    private long detailStaleWhileRevalidate;
 
     @GetMapping
-    public ResponseEntity<PaginatedResponse<PropertyResponse>> getAllProperties(
+    public ResponseEntity<?> getAllProperties(
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String priceRange,
@@ -45,10 +103,31 @@ public class PropertyController {
             @RequestParam(required = false) String bedrooms,
             @RequestParam(required = false) String sortBy,
             @RequestParam(defaultValue = "1") Integer page,
-            @RequestParam(defaultValue = "9") Integer limit
+            @RequestParam(defaultValue = "9") Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") Boolean approximateTotal,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Double north,
+            @RequestParam(required = false) Double south,
+            @RequestParam(required = false) Double east,
+            @RequestParam(required = false) Double west,
+            WebRequest webRequest
     ) {
-        log.debug("Received request - search: {}, location: {}, priceRange: {}, propertyType: {}, bedrooms: {}, sortBy: {}, page: {}, limit: {}", 
-                  search, location, priceRange, propertyType, bedrooms, sortBy, page, limit);
+        CacheControl cacheControl = cacheControl(listingMaxAge, listingStaleWhileRevalidate);
+        Optional<String> etag = propertyService.getCatalogETag("list");
+        // Only the unfiltered first page is served pre-serialized, and so only it can be gzip-encoded
+        boolean preSerialized = webRequest.getParameterMap().isEmpty();
+        boolean gzip = preSerialized && acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (etag.isPresent() && webRequest.checkNotModified(variant(etag.get(), gzip))) {
+            return notModified(cacheControl);
+        }
+
+        log.debug("Received request - search: {}, location: {}, priceRange: {}, propertyType: {}, bedrooms: {}, sortBy: {}, page: {}, limit: {}, cursor: {}", 
+                  search, location, priceRange, propertyType, bedrooms, sortBy, page, limit, cursor);
 
         SearchRequest searchRequest = new SearchRequest();
         searchRequest.setSearch(search);
@@ -59,21 +138,141 @@ public class PropertyController {
         searchRequest.setSortBy(sortBy);
         searchRequest.setPage(page);
         searchRequest.setLimit(limit);
+        searchRequest.setCursor(cursor);
+        searchRequest.setApproximateTotal(approximateTotal);
+        searchRequest.setView(view);
+        searchRequest.setFields(fields);
+        searchRequest.setLat(lat);
+        searchRequest.setLng(lng);
+        searchRequest.setRadiusKm(radiusKm);
+        searchRequest.setNorth(north);
+        searchRequest.setSouth(south);
+        searchRequest.setEast(east);
+        searchRequest.setWest(west);
+
+        // Any cursor parameter (empty for the first page) switches to keyset pagination
+        if (cursor != null) {
+            CursorPageResponse<PropertyResponse> response = propertyService.getPropertiesByCursor(searchRequest);
+            return ok(etag, cacheControl).body(response);
+        }
+
+        // The unfiltered first page is what the home page asks for; serve it pre-serialized
+        if (preSerialized) {
+            return serialized("listing", etag, gzip, cacheControl,
+                () -> propertyService.getAllProperties(searchRequest), body -> etag.get());
+        }
 
         PaginatedResponse<PropertyResponse> response = propertyService.getAllProperties(searchRequest);
-        return ResponseEntity.ok(response);
+        return ok(etag, cacheControl).body(response);
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<PropertyFacetsResponse>> getFacets(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String priceRange,
+            @RequestParam(required = false) String propertyType,
+            @RequestParam(required = false) String bedrooms,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Double north,
+            @RequestParam(required = false) Double south,
+            @RequestParam(required = false) Double east,
+            @RequestParam(required = false) Double west
+    ) {
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setSearch(search);
+        searchRequest.setLocation(location);
+        searchRequest.setPriceRange(priceRange);
+        searchRequest.setPropertyType(propertyType);
+        searchRequest.setBedrooms(bedrooms);
+        searchRequest.setLat(lat);
+        searchRequest.setLng(lng);
+        searchRequest.setRadiusKm(radiusKm);
+        searchRequest.setNorth(north);
+        searchRequest.setSouth(south);
+        searchRequest.setEast(east);
+        searchRequest.setWest(west);
+
+        PropertyFacetsResponse facets = propertyService.getFacets(searchRequest);
+        return ResponseEntity.ok(ApiResponse.success(facets, "Facets retrieved successfully"));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> suggest(
+            @RequestParam(name = "q", required = false) String query,
+            @RequestParam(defaultValue = "10") Integer limit
+    ) {
+        List<SuggestionResponse> suggestions = propertyService.suggest(query, limit);
+        return ResponseEntity.ok(ApiResponse.success(suggestions));
+    }
+
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<ApiResponse<List<PropertyResponse>>> getSimilarProperties(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "6") Integer limit
+    ) {
+        List<PropertyResponse> similar = propertyService.getSimilarProperties(id, limit);
+        return ResponseEntity.ok(ApiResponse.success(similar));
+    }
+
+    // Incremental sync: listings created, updated or deleted since the token from the previous call
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<PropertyChangesResponse>> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") Integer limit
+    ) {
+        PropertyChangesResponse changes = propertyChangeFeedService.getChanges(since, limit);
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .body(ApiResponse.success(changes));
+    }
+
+    // Server-sent events: a "change" event per committed write, or "resync" when clients should refetch.
+    // EventSource reconnects with Last-Event-ID and is sent what it missed.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return propertyStreamService.subscribe(lastEventId)
+            .map(emitter -> ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                // Stops nginx-style proxies from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(emitter))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .build());
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<ApiResponse<List<PropertyResponse>>> getFeaturedProperties() {
-        List<PropertyResponse> properties = propertyService.getFeaturedProperties();
-        return ResponseEntity.ok(ApiResponse.success(properties, "Featured properties retrieved successfully"));
+    public ResponseEntity<?> getFeaturedProperties(WebRequest webRequest) {
+        CacheControl cacheControl = cacheControl(featuredMaxAge, featuredStaleWhileRevalidate);
+        Optional<String> etag = propertyService.getCatalogETag("featured");
+        boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (etag.isPresent() && webRequest.checkNotModified(variant(etag.get(), gzip))) {
+            return notModified(cacheControl);
+        }
+
+        return serialized("featured", etag, gzip, cacheControl,
+            () -> ApiResponse.success(propertyService.getFeaturedProperties(), "Featured properties retrieved successfully"),
+            response -> propertyService.getFeaturedETag(response.getData()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<PropertyResponse>> getPropertyById(@PathVariable Long id) {
-        PropertyResponse property = propertyService.getPropertyById(id);
-        return ResponseEntity.ok(ApiResponse.success(property, "Property retrieved successfully"));
+    public ResponseEntity<?> getPropertyById(@PathVariable Long id, WebRequest webRequest) {
+        // The version comes from the catalog, so a revalidation never loads the entity
+        CacheControl cacheControl = cacheControl(detailMaxAge, detailStaleWhileRevalidate);
+        Optional<String> etag = propertyService.getPropertyETag(id);
+        boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (etag.isPresent() && webRequest.checkNotModified(variant(etag.get(), gzip))) {
+            return notModified(cacheControl);
+        }
+
+        return serialized("detail:" + id, etag, gzip, cacheControl,
+            () -> ApiResponse.success(propertyService.getPropertyById(id), "Property retrieved successfully"),
+            response -> propertyService.getETag(response.getData()));
     }
 
     @PostMapping
@@ -97,6 +296,60 @@ public class PropertyController {
         return ResponseEntity.ok(ApiResponse.success(null, "Property deleted successfully"));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<PropertyBulkResponse>> bulkUpdate(@Valid @RequestBody PropertyBulkRequest request) {
+        PropertyBulkResponse result = propertyService.bulkUpdate(request);
+        return ResponseEntity.ok(ApiResponse.success(result,
+            "Bulk update changed " + result.getAffected() + " properties"));
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ApiResponse<PropertyImportResponse>> importProperties(HttpServletRequest request) throws IOException {
+        // Read straight from the request stream; the body is never buffered in full
+        PropertyImportService.Format format = MediaType.parseMediaType(request.getContentType())
+            .isCompatibleWith(TEXT_CSV) ? PropertyImportService.Format.CSV : PropertyImportService.Format.NDJSON;
+        PropertyImportResponse report = propertyImportService.importProperties(request.getInputStream(), format);
+        return ResponseEntity.ok(ApiResponse.success(report,
+            "Imported " + report.getImported() + " of " + report.getTotalRows() + " rows"));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProperties(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+            @RequestParam(required = false) String status,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        PropertyExportService.Format exportFormat = switch (format.toLowerCase()) {
+            case "csv" -> PropertyExportService.Format.CSV;
+            case "ndjson" -> PropertyExportService.Format.NDJSON;
+            default -> throw new BadRequestException("format must be csv or ndjson");
+        };
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        // Written from an async thread after the headers go out; nothing is buffered beyond one chunk
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                propertyExportService.exportProperties(compressed, exportFormat, updatedSince, status);
+                compressed.finish();
+            } else {
+                propertyExportService.exportProperties(out, exportFormat, updatedSince, status);
+            }
+        };
+
+        String extension = exportFormat == PropertyExportService.Format.CSV ? "csv" : "ndjson";
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(exportFormat == PropertyExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.parseMediaType("application/x-ndjson"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"properties." + extension + "\"")
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @PostMapping("/{id}/images")
     public ResponseEntity<ApiResponse<List<String>>> uploadPropertyImages(
             @PathVariable Long id,
@@ -115,4 +368,84 @@ public class PropertyController {
         List<String> uploadedUrls = propertyService.uploadPropertyImages(id, files);
         return ResponseEntity.ok(ApiResponse.success(uploadedUrls, "Images uploaded successfully"));
     }
-}
\ No newline at end of file
+
+    private static CacheControl cacheControl(long maxAge, long staleWhileRevalidate) {
+        return CacheControl.maxAge(maxAge, TimeUnit.SECONDS)
+            .staleWhileRevalidate(staleWhileRevalidate, TimeUnit.SECONDS)
+            .cachePublic();
+    }
+
+    // The ETag is read before the body is built, so a concurrent write can only make it older, never newer
+    private static ResponseEntity.BodyBuilder ok(Optional<String> etag, CacheControl cacheControl) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(cacheControl);
+        etag.ifPresent(response::eTag);
+        return response;
+    }
+
+    /**
+     * Writes the body from the pre-serialized response cache, gzip-encoded when {@code gzip} is set.
+     * The response carries the ETag of the body actually sent, which trails {@code etag} while a
+     * service cache is still refreshing. Without an ETag (catalog still loading) the entry could not
+     * be validated, so it is built fresh.
+     */
+    private <T> ResponseEntity<?> serialized(String key, Optional<String> etag, boolean gzip, CacheControl cacheControl,
+                                             Supplier<T> body, Function<? super T, String> etagOf) {
+        if (etag.isEmpty()) {
+            return ok(etag, cacheControl).body(body.get());
+        }
+        PropertyResponseCache.CachedResponse cached = propertyResponseCache.getOrBuild(key, etag.get(), body, etagOf);
+
+        ResponseEntity.BodyBuilder response = ok(Optional.of(variant(cached.etag(), gzip)), cacheControl)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(cached.body(gzip));
+    }
+
+    // The gzip body is a different byte sequence, so it needs its own strong ETag; otherwise a cache
+    // could answer a range or revalidation request for one encoding with the other
+    private static String variant(String etag, boolean gzip) {
+        return gzip ? etag.substring(0, etag.length() - 1) + "-gz\"" : etag;
+    }
+
+    // Honours q-values, so "gzip;q=0" is a refusal; a wildcard covers gzip unless gzip is listed itself
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (!name.equals("gzip") && !name.equals("x-gzip") && !name.equals("*")) {
+                continue;
+            }
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals("*")) {
+                wildcardQuality = quality;
+            } else {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            }
+        }
+        double quality = gzipQuality != null ? gzipQuality : wildcardQuality != null ? wildcardQuality : 0;
+        return quality > 0;
+    }
+
+    // checkNotModified has already written the ETag and the 304 status
+    private static <T> ResponseEntity<T> notModified(CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+    }
+}
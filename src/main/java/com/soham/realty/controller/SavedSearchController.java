@@ -0,0 +1,49 @@
+package com.soham.realty.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.soham.realty.dto.request.SavedSearchRequest;
+import com.soham.realty.dto.response.ApiResponse;
+import com.soham.realty.dto.response.PaginatedResponse;
+import com.soham.realty.dto.response.SavedSearchMatchResponse;
+import com.soham.realty.dto.response.SavedSearchResponse;
+import com.soham.realty.service.SavedSearchService;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "${app.cors.allowed-origins}")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<SavedSearchResponse>> createSavedSearch(@Valid @RequestBody SavedSearchRequest request) {
+        SavedSearchResponse savedSearch = savedSearchService.createSavedSearch(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(ApiResponse.success(savedSearch, "Search saved successfully"));
+    }
+
+    @GetMapping("/{token}")
+    public ResponseEntity<ApiResponse<SavedSearchResponse>> getSavedSearch(@PathVariable String token) {
+        return ResponseEntity.ok(ApiResponse.success(savedSearchService.getSavedSearch(token)));
+    }
+
+    @DeleteMapping("/{token}")
+    public ResponseEntity<ApiResponse<Void>> deleteSavedSearch(@PathVariable String token) {
+        savedSearchService.deleteSavedSearch(token);
+        return ResponseEntity.ok(ApiResponse.success(null, "Saved search deleted successfully"));
+    }
+
+    @GetMapping("/{token}/matches")
+    public ResponseEntity<PaginatedResponse<SavedSearchMatchResponse>> getMatches(
+            @PathVariable String token,
+            @RequestParam(defaultValue = "1") Integer page,
+            @RequestParam(defaultValue = "10") Integer limit) {
+        return ResponseEntity.ok(savedSearchService.getMatches(token, page, limit));
+    }
+}
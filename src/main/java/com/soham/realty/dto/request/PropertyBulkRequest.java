@@ -0,0 +1,39 @@
+package com.soham.realty.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class PropertyBulkRequest {
+    // Applied in order, all in one transaction
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 20, message = "At most 20 operations per request")
+    @Valid
+    private List<Operation> operations;
+
+    public enum Action {
+        SET_STATUS, SET_FEATURED, DELETE
+    }
+
+    @Data
+    public static class Operation {
+        @NotNull(message = "Action is required")
+        private Action action;
+
+        // SET_STATUS only
+        @Pattern(regexp = "Available|Sold", message = "Status must be either 'Available' or 'Sold'")
+        private String status;
+
+        // SET_FEATURED only
+        private Boolean featured;
+
+        // Targets: either explicit ids or a filter with the listing endpoint's criteria, not both
+        @Size(max = 5000, message = "At most 5000 ids per operation")
+        private List<Long> ids;
+
+        private SearchRequest filter;
+    }
+}
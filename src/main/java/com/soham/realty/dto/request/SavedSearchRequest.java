@@ -0,0 +1,41 @@
+package com.soham.realty.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+@Data
+public class SavedSearchRequest {
+    @NotBlank(message = "Name is required")
+    @Size(min = 2, max = 100)
+    private String name;
+
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email should be valid")
+    private String email;
+
+    // Same criteria as the listing endpoint's query parameters
+    @Size(max = 200)
+    private String search;
+
+    @Size(max = 100)
+    private String location;
+
+    @Size(max = 50)
+    private String priceRange;
+
+    @Size(max = 50)
+    private String propertyType;
+
+    @Size(max = 10)
+    private String bedrooms;
+
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double lat;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double lng;
+
+    private Double radiusKm;
+}
@@ -13,6 +13,20 @@ public class SearchRequest {
     private String sortBy;
     private Integer page;
     private Integer limit;
+    private String cursor;
+    private Boolean approximateTotal;
+    // Sparse fieldset: a named view (card|full) or an explicit comma-separated field list
+    private String view;
+    private String fields;
+    // Radius search around a point
+    private Double lat;
+    private Double lng;
+    private Double radiusKm;
+    // Map viewport bounding box
+    private Double north;
+    private Double south;
+    private Double east;
+    private Double west;
 
     public String getSearch() {
         return search;
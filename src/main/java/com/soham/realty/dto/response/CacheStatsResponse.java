@@ -0,0 +1,20 @@
+package com.soham.realty.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+ private String name;
+ // Caffeine spec the cache was built with
+ private String spec;
+ // Approximate; expired entries may still be counted until cleanup runs
+ private long size;
+ private long hits;
+ private long misses;
+ private double hitRate;
+ private long evictions;
+}
@@ -0,0 +1,20 @@
+package com.soham.realty.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+ private List<T> data;
+ private int limit;
+ private boolean hasMore;
+ private String nextCursor;
+
+ public static <T> CursorPageResponse<T> of(List<T> data, int limit, String nextCursor) {
+     return new CursorPageResponse<>(data, limit, nextCursor != null, nextCursor);
+ }
+}
@@ -14,9 +14,15 @@ public class PaginatedResponse<T> {
  private int page;
  private int limit;
  private int totalPages;
+ // True when total is an estimate rather than an exact count
+ private boolean approximate;
  
  public static <T> PaginatedResponse<T> of(List<T> data, long total, int page, int limit) {
+     return of(data, total, page, limit, false);
+ }
+ 
+ public static <T> PaginatedResponse<T> of(List<T> data, long total, int page, int limit, boolean approximate) {
      int totalPages = (int) Math.ceil((double) total / limit);
-     return new PaginatedResponse<>(data, total, page, limit, totalPages);
+     return new PaginatedResponse<>(data, total, page, limit, totalPages, approximate);
  }
 }
\ No newline at end of file
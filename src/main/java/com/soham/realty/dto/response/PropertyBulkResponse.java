@@ -0,0 +1,30 @@
+package com.soham.realty.dto.response;
+
+import com.soham.realty.dto.request.PropertyBulkRequest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyBulkResponse {
+ // Distinct listings whose row changed across all operations
+ private long affected;
+ private List<OperationResult> operations;
+
+ @Data
+ @NoArgsConstructor
+ @AllArgsConstructor
+ public static class OperationResult {
+     private PropertyBulkRequest.Action action;
+     // Listings the ids or filter selected
+     private long matched;
+     // Listings actually written; ones already in the requested state are skipped
+     private long affected;
+     // Requested ids that do not exist (or were deleted by an earlier operation)
+     private List<Long> notFound;
+ }
+}
@@ -0,0 +1,30 @@
+package com.soham.realty.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyChangesResponse {
+ // Current state of every listing created or updated since the token
+ private List<PropertyResponse> changed;
+ private List<Tombstone> deleted;
+ // Pass back as ?since= for the next page; unchanged when nothing new has been committed
+ private String nextToken;
+ private boolean hasMore;
+ // The token is missing or older than the retained log; refetch everything, then continue from nextToken
+ private boolean resyncRequired;
+
+ @Data
+ @NoArgsConstructor
+ @AllArgsConstructor
+ public static class Tombstone {
+     private Long id;
+     private LocalDateTime deletedAt;
+ }
+}
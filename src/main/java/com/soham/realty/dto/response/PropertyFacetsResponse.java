@@ -0,0 +1,31 @@
+package com.soham.realty.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyFacetsResponse {
+ private long total;
+ private Map<String, Long> propertyTypes;
+ private Map<String, Long> bedrooms;
+ private Map<String, Long> status;
+ private Map<String, Long> cities;
+ private List<PriceBucket> priceHistogram;
+
+ @Data
+ @NoArgsConstructor
+ @AllArgsConstructor
+ public static class PriceBucket {
+     // Value to pass back as the priceRange filter
+     private String range;
+     private BigDecimal min;
+     private BigDecimal max;
+     private long count;
+ }
+}
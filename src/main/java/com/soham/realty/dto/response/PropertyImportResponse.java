@@ -0,0 +1,27 @@
+package com.soham.realty.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyImportResponse {
+ private long totalRows;
+ private long imported;
+ private long failed;
+ // Capped; failed counts every rejected row
+ private List<RowError> errors;
+ private boolean errorsTruncated;
+
+ @Data
+ @NoArgsConstructor
+ @AllArgsConstructor
+ public static class RowError {
+     // 1-based data row number, not counting the CSV header
+     private long row;
+     private String message;
+ }
+}
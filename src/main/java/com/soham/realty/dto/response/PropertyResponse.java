@@ -1,5 +1,7 @@
 package com.soham.realty.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -24,9 +26,14 @@ public class PropertyResponse {
  private BigDecimal bathrooms;
  private Integer squareFootage;
  private String videoLink;
+ private Double latitude;
+ private Double longitude;
  private String propertyType;
  private Boolean featured;
  private String status;
  private LocalDateTime createdAt;
  private LocalDateTime updatedAt;
+ // Row version the response was built from; tags cached bodies, never serialized
+ @JsonIgnore
+ private Long version;
 }
@@ -0,0 +1,21 @@
+package com.soham.realty.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PropertyStreamEventResponse {
+ // created, updated or deleted; resync when too much changed at once to list, so clients refetch
+ private String type;
+ private Long propertyId;
+ // Row version after the change, matching the detail ETag; absent for deletes
+ private Long version;
+ // Whether the listing is (or, for deletes, was) featured, so the home page knows to refresh
+ private Boolean featured;
+}
@@ -0,0 +1,14 @@
+package com.soham.realty.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchMatchResponse {
+    private LocalDateTime matchedAt;
+    private PropertyResponse property;
+}
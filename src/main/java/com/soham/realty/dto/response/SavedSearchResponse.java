@@ -0,0 +1,25 @@
+package com.soham.realty.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchResponse {
+    private Long id;
+    private String name;
+    private String email;
+    private String accessToken;
+    private String search;
+    private String location;
+    private String priceRange;
+    private String propertyType;
+    private String bedrooms;
+    private Double lat;
+    private Double lng;
+    private Double radiusKm;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,11 @@
+package com.soham.realty.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A listing row built for a sparse fieldset ({@code view=card} or {@code fields=}). Fields outside the
+ * selection are left null and omitted from the JSON; every other endpoint keeps sending null keys.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SparsePropertyResponse extends PropertyResponse {
+}
@@ -0,0 +1,16 @@
+package com.soham.realty.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionResponse {
+ private String text;
+ // CITY, ZIP, ADDRESS or TITLE
+ private String type;
+ // Number of listings carrying this value
+ private long count;
+}
@@ -0,0 +1,31 @@
+package com.soham.realty.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarmupReportResponse {
+ private LocalDateTime startedAt;
+ private long durationMs;
+ // False when the time box ran out before every task finished
+ private boolean completed;
+ private List<TaskResult> tasks;
+
+ @Data
+ @NoArgsConstructor
+ @AllArgsConstructor
+ public static class TaskResult {
+     private String name;
+     // completed, skipped, timed out, or failed: <reason>
+     private String status;
+     // Entries loaded, connections opened or calls replayed, depending on the task
+     private int warmed;
+     private long durationMs;
+ }
+}
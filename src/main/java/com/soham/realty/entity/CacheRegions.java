@@ -0,0 +1,24 @@
+package com.soham.realty.entity;
+
+/**
+ * Names of the Hibernate second-level cache regions. Every region must be declared with a size
+ * bound in {@code HibernateCacheConfig}; Hibernate refuses to start if one is missing.
+ */
+public final class CacheRegions {
+
+    public static final String PROPERTIES = "properties";
+    public static final String PROPERTY_IMAGES = "property-images";
+    // Image ids per property, for Property.images
+    public static final String PROPERTY_IMAGE_LISTS = "property-image-lists";
+    public static final String USERS = "users";
+
+    public static final String FEATURED_QUERY = "featured-properties-query";
+    public static final String PROPERTY_DETAILS_QUERY = "property-details-query";
+
+    // Hibernate's own regions once the query cache is on
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {
+    }
+}
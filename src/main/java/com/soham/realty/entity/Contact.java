@@ -17,7 +17,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Contact {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "contact_id")
+    @TableGenerator(name = "contact_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+        valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "contacts",
+        allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, length = 100)
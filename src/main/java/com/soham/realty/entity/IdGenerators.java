@@ -0,0 +1,20 @@
+package com.soham.realty.entity;
+
+/**
+ * Shared settings for the table-backed id generators.
+ *
+ * MySQL has no sequences and IDENTITY columns force Hibernate to insert one row at a time to read the
+ * key back, which disables JDBC batching. Each entity instead reserves a block of ids from a row in
+ * {@value #TABLE}. The stored value is the last id of the most recently reserved block, so the
+ * next block starts right after it.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "last_value";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
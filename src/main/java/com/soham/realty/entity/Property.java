@@ -1,6 +1,8 @@
 package com.soham.realty.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -20,8 +22,12 @@ import java.util.List;
     @Index(name = "idx_property_status", columnList = "status"),
     @Index(name = "idx_property_featured", columnList = "featured"),
     @Index(name = "idx_property_created_at", columnList = "created_at"),
-    @Index(name = "idx_property_search", columnList = "city, property_type, status")
+    @Index(name = "idx_property_updated_at", columnList = "updated_at"),
+    @Index(name = "idx_property_search", columnList = "city, property_type, status"),
+    @Index(name = "idx_property_location", columnList = "latitude, longitude")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROPERTIES)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,7 +35,10 @@ import java.util.List;
 @EqualsAndHashCode(exclude = "images")
 public class Property {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "property_id")
+    @TableGenerator(name = "property_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+        valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "properties",
+        allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false)
@@ -71,11 +80,19 @@ public class Property {
     @Column(name = "video_link", length = 500)
     private String videoLink;
     
+    // WGS84 coordinates, nullable until the listing has been placed on the map
+    @Column(name = "latitude")
+    private Double latitude;
+    
+    @Column(name = "longitude")
+    private Double longitude;
+    
     @Column(nullable = false)
     private Boolean featured = false;
     
     @OneToMany(mappedBy = "property", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("imageOrder ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROPERTY_IMAGE_LISTS)
     private List<PropertyImage> images = new ArrayList<>();
     
     @Column(name = "image_url", length = 500)
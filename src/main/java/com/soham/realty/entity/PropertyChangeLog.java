@@ -0,0 +1,40 @@
+package com.soham.realty.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * One row per listing changed by a committed write. Other instances poll it to bring their caches
+ * up to date, and it backs the public change feed. Written with plain JDBC by
+ * {@code PropertyChangeRecorder}.
+ */
+@Entity
+@Table(name = "property_change_log",
+    indexes = @Index(name = "idx_property_change_log_created", columnList = "created_at")
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyChangeLog {
+    // Identity, not the pooled table generator: readers follow ids, so they must be handed out in insert order
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "property_id", nullable = false)
+    private Long propertyId;
+
+    // Instance that made the change; it skips its own rows
+    @Column(name = "origin", nullable = false, length = 64)
+    private String origin;
+
+    // Tombstone: the listing was deleted by this change
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
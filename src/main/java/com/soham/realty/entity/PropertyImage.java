@@ -1,6 +1,8 @@
 package com.soham.realty.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -17,6 +19,8 @@ import java.time.LocalDateTime;
         @Index(name = "idx_property_images_order", columnList = "property_id, image_order")
     }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROPERTY_IMAGES)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,7 +28,10 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(exclude = "property")
 public class PropertyImage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "property_image_id")
+    @TableGenerator(name = "property_image_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+        valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "property_images",
+        allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,65 @@
+package com.soham.realty.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "saved_searches", indexes = {
+    @Index(name = "idx_saved_search_token", columnList = "access_token", unique = true),
+    @Index(name = "idx_saved_search_email", columnList = "email")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "saved_search_id")
+    @TableGenerator(name = "saved_search_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+        valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "saved_searches",
+        allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String email;
+
+    // Buyers have no account; this unguessable token is what grants access to the search and its inbox
+    @Column(name = "access_token", nullable = false, unique = true, length = 36)
+    private String accessToken;
+
+    // Criteria, stored in the same form as the listing query parameters
+    @Column(length = 200)
+    private String search;
+
+    @Column(length = 100)
+    private String location;
+
+    @Column(name = "price_range", length = 50)
+    private String priceRange;
+
+    @Column(name = "property_type", length = 50)
+    private String propertyType;
+
+    @Column(length = 10)
+    private String bedrooms;
+
+    private Double lat;
+
+    private Double lng;
+
+    @Column(name = "radius_km")
+    private Double radiusKm;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
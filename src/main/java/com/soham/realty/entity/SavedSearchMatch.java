@@ -0,0 +1,43 @@
+package com.soham.realty.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "saved_search_matches",
+    uniqueConstraints = @UniqueConstraint(name = "uk_saved_search_match", columnNames = {"saved_search_id", "property_id"}),
+    indexes = {
+        @Index(name = "idx_saved_search_match_inbox", columnList = "saved_search_id, matched_at"),
+        @Index(name = "idx_saved_search_match_property", columnList = "property_id")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchMatch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "saved_search_match_id")
+    @TableGenerator(name = "saved_search_match_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+        valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "saved_search_matches",
+        allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "saved_search_id", nullable = false)
+    private Long savedSearchId;
+
+    @Column(name = "property_id", nullable = false)
+    private Long propertyId;
+
+    @Column(name = "matched_at", nullable = false)
+    private LocalDateTime matchedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (matchedAt == null) {
+            matchedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.soham.realty.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -8,12 +10,18 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+// Read on every authenticated request by CustomUserDetailsService.loadUserById
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
  @Id
- @GeneratedValue(strategy = GenerationType.IDENTITY)
+ @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+ @TableGenerator(name = "user_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+     valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "users",
+     allocationSize = IdGenerators.ALLOCATION_SIZE)
  private Long id;
  
  @Column(nullable = false, length = 100)
@@ -0,0 +1,24 @@
+package com.soham.realty.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published once per bulk admin operation with one before/after pair per listing it changed, so
+ * caches and indexes are updated in one step instead of once per listing.
+ * <p>
+ * Also published by {@code PropertyChangeReplicator} for changes committed by another instance;
+ * those are {@code replicated} and only local state should react to them.
+ */
+@Getter
+@AllArgsConstructor
+public class PropertyBulkChangeEvent {
+    private final List<PropertyChangeEvent> changes;
+    private final boolean replicated;
+
+    public PropertyBulkChangeEvent(List<PropertyChangeEvent> changes) {
+        this(changes, false);
+    }
+}
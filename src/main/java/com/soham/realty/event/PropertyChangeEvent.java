@@ -0,0 +1,31 @@
+package com.soham.realty.event;
+
+import com.soham.realty.search.PropertyDocument;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the property service whenever a listing is written.
+ * {@code before} is null for creates and {@code after} is null for deletes.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class PropertyChangeEvent {
+    private final PropertyDocument before;
+    private final PropertyDocument after;
+
+    public Long getPropertyId() {
+        return after != null ? after.getId() : before.getId();
+    }
+
+    public boolean isCreate() {
+        return before == null;
+    }
+
+    public boolean isDelete() {
+        return after == null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.soham.realty.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published once after the last batch of an import has committed, so caches and streams react once
+ * per import rather than once per batch.
+ */
+@Getter
+@AllArgsConstructor
+public class PropertyImportCompletedEvent {
+    private final long imported;
+}
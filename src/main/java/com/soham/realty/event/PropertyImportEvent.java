@@ -0,0 +1,19 @@
+package com.soham.realty.event;
+
+import com.soham.realty.search.PropertyDocument;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published once per import batch, inside its transaction, with every listing it inserted: the
+ * change log is written before the batch commits, and the catalog and saved search matching take the
+ * rows after it. Caches and streams wait for the {@link PropertyImportCompletedEvent}.
+ */
+@Getter
+@AllArgsConstructor
+public class PropertyImportEvent {
+    private final List<PropertyDocument> documents;
+}
@@ -4,10 +4,13 @@ import com.soham.realty.entity.Contact;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 @Repository
 public interface ContactRepository extends JpaRepository<Contact, Long> {
     
@@ -25,4 +28,9 @@ public interface ContactRepository extends JpaRepository<Contact, Long> {
     // OPTIMIZED: Count contacts by property for analytics
     @Query("SELECT COUNT(c) FROM Contact c WHERE c.property.id = :propertyId")
     long countByPropertyId(@Param("propertyId") Long propertyId);
+
+    // Enquiries outlive a bulk-deleted listing as general enquiries, like cleanupOrphanedContacts does
+    @Modifying
+    @Query("UPDATE Contact c SET c.property = null WHERE c.property.id IN :propertyIds")
+    int detachFromProperties(@Param("propertyIds") Collection<Long> propertyIds);
 }
\ No newline at end of file
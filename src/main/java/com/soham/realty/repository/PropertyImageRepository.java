@@ -2,18 +2,41 @@ package com.soham.realty.repository;
 
 import com.soham.realty.entity.PropertyImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PropertyImageRepository extends JpaRepository<PropertyImage, Long> {
-    
+
     // Find all images for a property
     List<PropertyImage> findByPropertyIdOrderByImageOrderAsc(Long propertyId);
-    
+
     // Count images for a property
     Long countByPropertyId(Long propertyId);
-    
+
+    // OPTIMIZED: Load image URLs for a whole page of properties in one query
+    @Query("""
+        SELECT i.property.id AS propertyId, i.imageUrl AS imageUrl
+        FROM PropertyImage i
+        WHERE i.property.id IN :propertyIds
+        ORDER BY i.property.id ASC, i.imageOrder ASC
+    """)
+    List<PropertyImageUrl> findImageUrlsByPropertyIds(@Param("propertyIds") Collection<Long> propertyIds);
+
     // Note: We don't need deleteByPropertyId anymore since cascade handles it
-}
\ No newline at end of file
+
+    // Bulk deletes go around the cascade, so they clear the images themselves
+    @Modifying
+    @Query("DELETE FROM PropertyImage i WHERE i.property.id IN :propertyIds")
+    int deleteByPropertyIds(@Param("propertyIds") Collection<Long> propertyIds);
+
+    interface PropertyImageUrl {
+        Long getPropertyId();
+        String getImageUrl();
+    }
+}
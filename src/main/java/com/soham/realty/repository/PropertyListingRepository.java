@@ -0,0 +1,22 @@
+package com.soham.realty.repository;
+
+import com.soham.realty.entity.Property;
+
+import jakarta.persistence.Tuple;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Column projections for listing pages. Each tuple element is aliased with its entity attribute
+ * name, so only the requested columns leave the database.
+ */
+public interface PropertyListingRepository {
+
+    List<Tuple> findColumns(Specification<Property> spec, Collection<String> attributes, Sort sort, long offset, int limit);
+
+    List<Tuple> findColumnsByIds(Collection<Long> ids, Collection<String> attributes);
+}
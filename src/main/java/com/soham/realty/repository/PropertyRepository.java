@@ -1,30 +1,50 @@
 package com.soham.realty.repository;
 
+import com.soham.realty.entity.CacheRegions;
 import com.soham.realty.entity.Property;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface PropertyRepository extends JpaRepository<Property, Long>, JpaSpecificationExecutor<Property> {
+public interface PropertyRepository extends JpaRepository<Property, Long>, JpaSpecificationExecutor<Property>,
+        PropertyListingRepository {
     
-    // OPTIMIZED: Cache featured properties query
+    // OPTIMIZED: Cache featured properties query. Results stay cached until a write to the
+    // properties table, and the rows themselves come from the second-level cache
     @Query("SELECT p FROM Property p WHERE p.featured = true AND p.status = :status ORDER BY p.createdAt DESC")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.FEATURED_QUERY)
+    })
     List<Property> findFeaturedPropertiesByStatus(@Param("status") String status);
     
-    // For reading with images (no lock needed for read operations)
+    // For reading with images (no lock needed for read operations); a repeat read is served from the
+    // query, property and image caches without touching the database
     @Query("SELECT DISTINCT p FROM Property p LEFT JOIN FETCH p.images WHERE p.id = :id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PROPERTY_DETAILS_QUERY)
+    })
     Optional<Property> findByIdWithImages(@Param("id") Long id);
     
     // For update operations that need locking
@@ -56,6 +76,35 @@ public interface PropertyRepository extends JpaRepository<Property, Long>, JpaSp
     		    Pageable pageable
     		);
     
+    // Forward-only scroll for the catalog export; must be consumed inside a transaction and closed.
+    // On MySQL the fetch size only streams with useCursorFetch=true on the JDBC URL.
+    @Query("""
+        SELECT p FROM Property p
+        WHERE (:updatedSince IS NULL OR p.updatedAt >= :updatedSince)
+        AND (:status IS NULL OR p.status = :status)
+        ORDER BY p.id ASC
+        """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Property> streamForExport(@Param("updatedSince") LocalDateTime updatedSince, @Param("status") String status);
+
+    // Set-based admin writes. Version and updatedAt move exactly as they would on a normal save, so
+    // optimistic locks and the export's updatedSince still see the change
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Property p SET p.status = :status, p.updatedAt = :now, p.version = p.version + 1 WHERE p.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") String status, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Property p SET p.featured = :featured, p.updatedAt = :now, p.version = p.version + 1 WHERE p.id IN :ids")
+    int updateFeaturedByIds(@Param("ids") Collection<Long> ids, @Param("featured") boolean featured, @Param("now") LocalDateTime now);
+
+    // Bypasses the images cascade; delete the images first
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Property p WHERE p.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
     // Keep existing methods for compatibility
     List<Property> findByFeaturedTrueAndStatus(String status);
 }
\ No newline at end of file
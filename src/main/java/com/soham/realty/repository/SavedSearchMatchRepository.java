@@ -0,0 +1,36 @@
+package com.soham.realty.repository;
+
+import com.soham.realty.entity.SavedSearchMatch;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SavedSearchMatchRepository extends JpaRepository<SavedSearchMatch, Long> {
+
+    // Newest matches first; served by the (saved_search_id, matched_at) index
+    Page<SavedSearchMatch> findBySavedSearchIdOrderByMatchedAtDescIdDesc(Long savedSearchId, Pageable pageable);
+
+    @Query("SELECT m.savedSearchId FROM SavedSearchMatch m WHERE m.propertyId = :propertyId AND m.savedSearchId IN :savedSearchIds")
+    List<Long> findMatchedSearchIds(@Param("propertyId") Long propertyId, @Param("savedSearchIds") Collection<Long> savedSearchIds);
+
+    @Modifying
+    @Query("DELETE FROM SavedSearchMatch m WHERE m.propertyId = :propertyId")
+    int deleteByPropertyId(@Param("propertyId") Long propertyId);
+
+    @Modifying
+    @Query("DELETE FROM SavedSearchMatch m WHERE m.propertyId IN :propertyIds")
+    int deleteByPropertyIds(@Param("propertyIds") Collection<Long> propertyIds);
+
+    @Modifying
+    @Query("DELETE FROM SavedSearchMatch m WHERE m.savedSearchId = :savedSearchId")
+    int deleteBySavedSearchId(@Param("savedSearchId") Long savedSearchId);
+}
@@ -0,0 +1,19 @@
+package com.soham.realty.repository;
+
+import com.soham.realty.entity.SavedSearch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    Optional<SavedSearch> findByAccessToken(String accessToken);
+
+    @Query("SELECT s.id FROM SavedSearch s")
+    List<Long> findAllIds();
+}
@@ -0,0 +1,250 @@
+package com.soham.realty.search;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Column-oriented copy of the attributes used by listing filters and sorts. Prices are held in
+ * paise as longs, creation time as epoch millis, and property type as an ordinal code with one
+ * bitmap per value, so a listing request is a bitmap AND plus a scan over primitive arrays.
+ *
+ * Enabled with {@code app.search.engine=columnar}; the JPA specification path is the default.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "columnar")
+@Slf4j
+public class ColumnarPropertyEngine implements PropertyIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] pricesMinor = new long[INITIAL_CAPACITY];
+    private int[] bedrooms = new int[INITIAL_CAPACITY];
+    private int[] typeCodes = new int[INITIAL_CAPACITY];
+    private long[] createdAtMillis = new long[INITIAL_CAPACITY];
+    // city, address and zip lower-cased and joined by '\n' for the location substring filter
+    private String[] locationText = new String[INITIAL_CAPACITY];
+
+    private final BitSet live = new BitSet();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int highWater = 0;
+
+    private final Map<String, Integer> typeCodeByName = new HashMap<>();
+    private final List<BitSet> typeBitmaps = new ArrayList<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void rebuild(Collection<PropertyDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            live.clear();
+            slotById.clear();
+            freeSlots.clear();
+            highWater = 0;
+            typeBitmaps.forEach(BitSet::clear);
+            documents.forEach(this::insert);
+            log.info("Columnar engine built with {} properties", slotById.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onChange(PropertyDocument before, PropertyDocument after) {
+        lock.writeLock().lock();
+        try {
+            if (before != null) {
+                remove(before.getId());
+            }
+            if (after != null) {
+                remove(after.getId());
+                insert(after);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Filter and sort entirely in memory.
+     *
+     * @return the total number of matches and the ids of the requested page, in order
+     */
+    public Result query(PropertyFilter filter, PropertySort sort, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet candidates = (BitSet) live.clone();
+            if (filter.getPropertyType() != null) {
+                Integer code = typeCodeByName.get(filter.getPropertyType());
+                if (code == null) {
+                    return new Result(0, new ArrayList<>());
+                }
+                candidates.and(typeBitmaps.get(code));
+            }
+
+            long minPrice = filter.getMinPrice() != null ? toMinor(filter.getMinPrice(), RoundingMode.CEILING) : Long.MIN_VALUE;
+            long maxPrice = filter.getMaxPrice() != null ? toMinor(filter.getMaxPrice(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+            int minBeds = filter.getMinBedrooms() != null ? filter.getMinBedrooms() : Integer.MIN_VALUE;
+            String location = filter.getLocation();
+
+            int[] matches = new int[candidates.cardinality()];
+            int total = 0;
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                if (pricesMinor[slot] < minPrice || pricesMinor[slot] > maxPrice || bedrooms[slot] < minBeds) {
+                    continue;
+                }
+                if (location != null && !locationText[slot].contains(location)) {
+                    continue;
+                }
+                matches[total++] = slot;
+            }
+
+            return new Result(total, topK(matches, total, sort, offset, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Keep only the best offset + limit slots in a bounded heap instead of sorting every match
+    private List<Long> topK(int[] matches, int total, PropertySort sort, long offset, int limit) {
+        List<Long> page = new ArrayList<>();
+        if (offset >= total) {
+            return page;
+        }
+        int k = (int) Math.min(total, offset + limit);
+        SlotComparator order = new SlotComparator(sort);
+
+        PriorityQueue<Integer> heap = new PriorityQueue<>(k, (a, b) -> order.compare(b, a));
+        for (int i = 0; i < total; i++) {
+            int slot = matches[i];
+            if (heap.size() < k) {
+                heap.add(slot);
+            } else if (order.compare(slot, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(slot);
+            }
+        }
+
+        int[] best = new int[heap.size()];
+        for (int i = best.length - 1; i >= 0; i--) {
+            best[i] = heap.poll();
+        }
+        for (int i = (int) offset; i < best.length; i++) {
+            page.add(ids[best[i]]);
+        }
+        return page;
+    }
+
+    private void insert(PropertyDocument doc) {
+        int slot = freeSlots.isEmpty() ? highWater++ : freeSlots.pop();
+        ensureCapacity(slot + 1);
+
+        ids[slot] = doc.getId();
+        pricesMinor[slot] = doc.getPrice() != null ? toMinor(doc.getPrice(), RoundingMode.HALF_UP) : 0L;
+        bedrooms[slot] = doc.getBedrooms() != null ? doc.getBedrooms() : 0;
+        createdAtMillis[slot] = doc.getCreatedAt() != null ? doc.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        locationText[slot] = (lower(doc.getCity()) + "\n" + lower(doc.getAddress()) + "\n" + lower(doc.getZip()));
+
+        typeCodes[slot] = code(doc.getPropertyType(), typeCodeByName, typeBitmaps);
+        typeBitmaps.get(typeCodes[slot]).set(slot);
+
+        live.set(slot);
+        slotById.put(doc.getId(), slot);
+    }
+
+    private void remove(Long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        live.clear(slot);
+        typeBitmaps.get(typeCodes[slot]).clear(slot);
+        locationText[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        pricesMinor = Arrays.copyOf(pricesMinor, capacity);
+        bedrooms = Arrays.copyOf(bedrooms, capacity);
+        typeCodes = Arrays.copyOf(typeCodes, capacity);
+        createdAtMillis = Arrays.copyOf(createdAtMillis, capacity);
+        locationText = Arrays.copyOf(locationText, capacity);
+    }
+
+    private static int code(String value, Map<String, Integer> codes, List<BitSet> bitmaps) {
+        String key = value != null ? value : "";
+        return codes.computeIfAbsent(key, k -> {
+            bitmaps.add(new BitSet());
+            return bitmaps.size() - 1;
+        });
+    }
+
+    private static long toMinor(BigDecimal amount, RoundingMode rounding) {
+        return amount.movePointRight(2).setScale(0, rounding).longValueExact();
+    }
+
+    private static String lower(String value) {
+        return value != null ? value.toLowerCase() : "";
+    }
+
+    private class SlotComparator {
+        private final PropertySort sort;
+
+        SlotComparator(PropertySort sort) {
+            this.sort = sort;
+        }
+
+        // Same ordering as PropertySort.comparator(), id breaks ties
+        int compare(int a, int b) {
+            int cmp = switch (sort) {
+                case PRICE_LOW -> Long.compare(pricesMinor[a], pricesMinor[b]);
+                case PRICE_HIGH -> Long.compare(pricesMinor[b], pricesMinor[a]);
+                default -> Long.compare(createdAtMillis[b], createdAtMillis[a]);
+            };
+            if (cmp != 0) {
+                return cmp;
+            }
+            return sort == PropertySort.PRICE_LOW ? Long.compare(ids[a], ids[b]) : Long.compare(ids[b], ids[a]);
+        }
+    }
+
+    @Value
+    public static class Result {
+        long total;
+        List<Long> ids;
+    }
+}
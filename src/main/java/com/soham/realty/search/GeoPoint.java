@@ -0,0 +1,39 @@
+package com.soham.realty.search;
+
+import lombok.Value;
+
+/**
+ * A WGS84 coordinate pair.
+ */
+@Value
+public class GeoPoint {
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    double latitude;
+    double longitude;
+
+    /** Great-circle distance using the haversine formula. */
+    public double distanceKm(double otherLatitude, double otherLongitude) {
+        double dLat = Math.toRadians(otherLatitude - latitude);
+        double dLng = Math.toRadians(otherLongitude - longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(otherLatitude))
+            * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public double distanceKm(PropertyDocument doc) {
+        return doc.hasLocation() ? distanceKm(doc.getLatitude(), doc.getLongitude()) : Double.MAX_VALUE;
+    }
+
+    /** Latitude span of a circle of {@code radiusKm}, used to derive its bounding box. */
+    public static double latitudeDelta(double radiusKm) {
+        return Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+    }
+
+    /** Longitude span of a circle of {@code radiusKm} at {@code latitude}. */
+    public static double longitudeDelta(double radiusKm, double latitude) {
+        double cos = Math.cos(Math.toRadians(latitude));
+        return cos < 1e-6 ? 180 : Math.min(180, Math.toDegrees(radiusKm / (EARTH_RADIUS_KM * cos)));
+    }
+}
@@ -0,0 +1,184 @@
+package com.soham.realty.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.soham.realty.event.PropertyBulkChangeEvent;
+import com.soham.realty.event.PropertyChangeEvent;
+import com.soham.realty.event.PropertyImportEvent;
+import com.soham.realty.repository.PropertyRepository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process copy of the searchable property attributes. Loaded once at startup and then
+ * kept current from committed {@link PropertyChangeEvent}s, fanning every change out to the
+ * registered {@link PropertyIndex} beans.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PropertyCatalog {
+
+    private final PropertyRepository propertyRepository;
+    private final List<PropertyIndex> indexes;
+
+    // Committed changes reach the catalog before the caches drop their entries, so a cache miss that
+    // races the invalidation already reloads from the updated catalog rather than re-caching the old rows
+    public static final int LISTENER_ORDER = Ordered.HIGHEST_PRECEDENCE;
+    public static final int CACHE_LISTENER_ORDER = LISTENER_ORDER + 100;
+
+    private final Map<Long, PropertyDocument> documents = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    // Order-independent sum over every (id, version) pair; any instance holding the same rows gets the same value
+    private volatile long fingerprint = 0;
+    // Same sum restricted to the rows the featured list shows
+    private volatile long featuredFingerprint = 0;
+
+    // Ahead of the other ready listeners; the warm-up reads through the catalog
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(readOnly = true)
+    public synchronized void load() {
+        long start = System.currentTimeMillis();
+        documents.clear();
+        propertyRepository.findAll().forEach(p -> documents.put(p.getId(), PropertyDocument.from(p)));
+        long sum = 0;
+        long featuredSum = 0;
+        for (PropertyDocument doc : documents.values()) {
+            sum += stamp(doc);
+            featuredSum += featuredStamp(doc);
+        }
+        fingerprint = sum;
+        featuredFingerprint = featuredSum;
+
+        Collection<PropertyDocument> snapshot = Collections.unmodifiableCollection(documents.values());
+        for (PropertyIndex index : indexes) {
+            try {
+                index.rebuild(snapshot);
+            } catch (Exception e) {
+                log.error("Failed to build index {}", index.getClass().getSimpleName(), e);
+            }
+        }
+
+        ready = true;
+        log.info("Loaded {} properties into the in-memory catalog in {} ms",
+            documents.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(LISTENER_ORDER)
+    public synchronized void onPropertyChange(PropertyChangeEvent event) {
+        apply(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(LISTENER_ORDER)
+    public synchronized void onPropertyBulkChange(PropertyBulkChangeEvent event) {
+        event.getChanges().forEach(this::apply);
+        log.info("Applied {} bulk changes to the in-memory catalog", event.getChanges().size());
+    }
+
+    private void apply(PropertyChangeEvent event) {
+        PropertyDocument before = event.getBefore();
+        PropertyDocument after = event.getAfter();
+
+        PropertyDocument previous = after != null ? documents.put(after.getId(), after) : documents.remove(before.getId());
+        fingerprint = fingerprint - (previous != null ? stamp(previous) : 0) + (after != null ? stamp(after) : 0);
+        featuredFingerprint = featuredFingerprint - (previous != null ? featuredStamp(previous) : 0)
+            + (after != null ? featuredStamp(after) : 0);
+
+        for (PropertyIndex index : indexes) {
+            try {
+                index.onChange(before, after);
+            } catch (Exception e) {
+                log.error("Failed to update index {} for property {}",
+                    index.getClass().getSimpleName(), event.getPropertyId(), e);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(LISTENER_ORDER)
+    public synchronized void onPropertyImport(PropertyImportEvent event) {
+        long sum = fingerprint;
+        long featuredSum = featuredFingerprint;
+        for (PropertyDocument doc : event.getDocuments()) {
+            PropertyDocument previous = documents.put(doc.getId(), doc);
+            sum += stamp(doc) - (previous != null ? stamp(previous) : 0);
+            featuredSum += featuredStamp(doc) - (previous != null ? featuredStamp(previous) : 0);
+        }
+        fingerprint = sum;
+        featuredFingerprint = featuredSum;
+        for (PropertyIndex index : indexes) {
+            try {
+                for (PropertyDocument doc : event.getDocuments()) {
+                    index.onChange(null, doc);
+                }
+            } catch (Exception e) {
+                log.error("Failed to add imported properties to index {}", index.getClass().getSimpleName(), e);
+            }
+        }
+        log.info("Added {} imported properties to the in-memory catalog", event.getDocuments().size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Changes whenever any listing is created, updated or deleted. Only meaningful once the catalog
+     * is {@link #isReady() ready}.
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Fingerprint of the featured list: available listings flagged as featured. Equals
+     * {@link #stamp(Long, Long)} summed over the rows of a featured list built from the same data.
+     */
+    public long featuredFingerprint() {
+        return featuredFingerprint;
+    }
+
+    private static long stamp(PropertyDocument doc) {
+        return stamp(doc.getId(), doc.getVersion());
+    }
+
+    private static long featuredStamp(PropertyDocument doc) {
+        return Boolean.TRUE.equals(doc.getFeatured()) && "Available".equals(doc.getStatus()) ? stamp(doc) : 0;
+    }
+
+    // SplitMix64 finalizer over id and version, so neighbouring rows don't cancel out in the sum
+    public static long stamp(Long id, Long version) {
+        long z = id * 0x9E3779B97F4A7C15L + (version != null ? version : 0);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public Optional<PropertyDocument> get(Long id) {
+        return Optional.ofNullable(documents.get(id));
+    }
+
+    public Collection<PropertyDocument> documents() {
+        return Collections.unmodifiableCollection(documents.values());
+    }
+
+    public int size() {
+        return documents.size();
+    }
+}
@@ -0,0 +1,159 @@
+package com.soham.realty.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.soham.realty.event.PropertyBulkChangeEvent;
+import com.soham.realty.event.PropertyChangeEvent;
+import com.soham.realty.event.PropertyImportCompletedEvent;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Exact listing totals keyed by {@link PropertyFilter#signature()}, so paging through one
+ * search runs the COUNT query at most once. Any committed property write clears it.
+ */
+@Component
+@Slf4j
+public class PropertyCountCache {
+
+    private static final int MAX_ENTRIES = 1000;
+    private static final int ESTIMATE_SAMPLE_SIZE = 500;
+
+    private final PropertyCatalog propertyCatalog;
+    private final Executor asyncExecutor;
+
+    private final Map<String, Long> counts = Collections.synchronizedMap(
+        new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        });
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    // Bumped on every write so a count started before the write is never cached after it
+    private final AtomicLong generation = new AtomicLong();
+
+    public PropertyCountCache(PropertyCatalog propertyCatalog, @Qualifier("asyncExecutor") Executor asyncExecutor) {
+        this.propertyCatalog = propertyCatalog;
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    public Long get(PropertyFilter filter) {
+        return counts.get(filter.signature());
+    }
+
+    /**
+     * Return the cached total or run {@code counter} and cache its result.
+     */
+    public long getOrCount(PropertyFilter filter, LongSupplier counter) {
+        String key = filter.signature();
+        Long cached = counts.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long startGeneration = generation.get();
+        long total = counter.getAsLong();
+        put(key, total, startGeneration);
+        return total;
+    }
+
+    /**
+     * Record a total that was derived without a COUNT, e.g. from a short last page.
+     * {@code startGeneration} is the value of {@link #currentGeneration()} before the page query ran.
+     */
+    public void putExact(PropertyFilter filter, long total, long startGeneration) {
+        put(filter.signature(), total, startGeneration);
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Estimate the total from a sample of the in-memory catalog and compute the exact count in
+     * the background so later pages of the same search get the real number.
+     *
+     * @return the estimate, or null when the catalog is not loaded and no estimate is possible
+     */
+    public Long estimate(PropertyFilter filter, LongSupplier counter) {
+        if (!propertyCatalog.isReady()) {
+            return null;
+        }
+
+        int catalogSize = propertyCatalog.size();
+        int sampled = 0;
+        int matched = 0;
+        Iterator<PropertyDocument> it = propertyCatalog.documents().iterator();
+        while (it.hasNext() && sampled < ESTIMATE_SAMPLE_SIZE) {
+            if (filter.matches(it.next())) {
+                matched++;
+            }
+            sampled++;
+        }
+        long estimate = sampled == 0 ? 0 : Math.round((double) matched / sampled * catalogSize);
+
+        String key = filter.signature();
+        if (pending.add(key)) {
+            long startGeneration = generation.get();
+            try {
+                asyncExecutor.execute(() -> {
+                    try {
+                        put(key, counter.getAsLong(), startGeneration);
+                    } catch (Exception e) {
+                        log.warn("Background count failed for {}: {}", key, e.getMessage());
+                    } finally {
+                        pending.remove(key);
+                    }
+                });
+            } catch (Exception e) {
+                pending.remove(key);
+                log.warn("Could not schedule background count for {}: {}", key, e.getMessage());
+            }
+        }
+        return estimate;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PropertyCatalog.CACHE_LISTENER_ORDER)
+    public void onPropertyImport(PropertyImportCompletedEvent event) {
+        clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PropertyCatalog.CACHE_LISTENER_ORDER)
+    public void onPropertyBulkChange(PropertyBulkChangeEvent event) {
+        clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PropertyCatalog.CACHE_LISTENER_ORDER)
+    public void onPropertyChange(PropertyChangeEvent event) {
+        clear();
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        counts.clear();
+    }
+
+    private void put(String key, long total, long startGeneration) {
+        synchronized (counts) {
+            if (generation.get() == startGeneration) {
+                counts.put(key, total);
+            }
+        }
+    }
+}
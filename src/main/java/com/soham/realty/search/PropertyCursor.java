@@ -0,0 +1,111 @@
+package com.soham.realty.search;
+
+import com.soham.realty.exception.BadRequestException;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor: the sort order, the sort key of the last row served and its id.
+ * Clients pass it back unchanged to fetch the next page.
+ */
+@Getter
+public class PropertyCursor {
+
+    private static final String VERSION = "v1";
+
+    private final PropertySort sort;
+    private final String key;
+    private final Long id;
+
+    private PropertyCursor(PropertySort sort, String key, Long id) {
+        this.sort = sort;
+        this.key = key;
+        this.id = id;
+    }
+
+    /**
+     * Cursor pointing after {@code doc}. {@code score} is the relevance score, or the distance in km
+     * for distance ordering; other orders ignore it.
+     */
+    public static PropertyCursor after(PropertySort sort, PropertyDocument doc, double score) {
+        String key = switch (sort) {
+            case PRICE_LOW, PRICE_HIGH -> doc.getPrice().toPlainString();
+            case RELEVANCE, DISTANCE -> Double.toString(score);
+            default -> doc.getCreatedAt().toString();
+        };
+        return new PropertyCursor(sort, key, doc.getId());
+    }
+
+    public static PropertyCursor decode(String token, PropertySort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            PropertyCursor cursor = new PropertyCursor(PropertySort.valueOf(parts[1]), parts[2], Long.parseLong(parts[3]));
+            if (cursor.sort != expectedSort) {
+                throw new BadRequestException("Cursor was issued for a different sort order");
+            }
+            // Fail fast on a tampered key rather than deep inside the query
+            cursor.validateKey();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = VERSION + "|" + sort.name() + "|" + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime createdAtKey() {
+        return LocalDateTime.parse(key);
+    }
+
+    public BigDecimal priceKey() {
+        return new BigDecimal(key);
+    }
+
+    public double scoreKey() {
+        return Double.parseDouble(key);
+    }
+
+    /**
+     * True when {@code doc} sorts strictly after this cursor. Mirrors the keyset predicate used
+     * for database pages so both paths agree on page boundaries.
+     */
+    public boolean isBefore(PropertyDocument doc, double score) {
+        int cmp = switch (sort) {
+            case PRICE_LOW -> compareNullable(doc.getPrice(), priceKey());
+            case PRICE_HIGH -> -compareNullable(doc.getPrice(), priceKey());
+            case RELEVANCE -> -Double.compare(score, scoreKey());
+            case DISTANCE -> Double.compare(score, scoreKey());
+            default -> -compareNullable(doc.getCreatedAt(), createdAtKey());
+        };
+        if (cmp != 0) {
+            return cmp > 0;
+        }
+        boolean ascending = sort == PropertySort.PRICE_LOW || sort == PropertySort.DISTANCE;
+        return ascending ? doc.getId() > id : doc.getId() < id;
+    }
+
+    private void validateKey() {
+        switch (sort) {
+            case PRICE_LOW, PRICE_HIGH -> priceKey();
+            case RELEVANCE, DISTANCE -> scoreKey();
+            default -> createdAtKey();
+        }
+    }
+
+    private static <T extends Comparable<T>> int compareNullable(T value, T key) {
+        return value == null ? 1 : value.compareTo(key);
+    }
+}
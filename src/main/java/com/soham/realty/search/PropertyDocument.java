@@ -0,0 +1,66 @@
+package com.soham.realty.search;
+
+import com.soham.realty.entity.Property;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable, detached snapshot of the searchable attributes of a property.
+ * Held by the in-memory catalog and handed to every index.
+ */
+@Value
+@Builder(toBuilder = true)
+public class PropertyDocument {
+    Long id;
+    String title;
+    String description;
+    String address;
+    String city;
+    String state;
+    String zip;
+    String propertyType;
+    String status;
+    BigDecimal price;
+    Integer bedrooms;
+    BigDecimal bathrooms;
+    Integer squareFootage;
+    Boolean featured;
+    String imageUrl;
+    Double latitude;
+    Double longitude;
+    LocalDateTime createdAt;
+    // Row version at the time of the snapshot; drives the listing's ETag
+    Long version;
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
+    public static PropertyDocument from(Property property) {
+        return PropertyDocument.builder()
+            .id(property.getId())
+            .title(property.getTitle())
+            .description(property.getDescription())
+            .address(property.getAddress())
+            .city(property.getCity())
+            .state(property.getState())
+            .zip(property.getZip())
+            .propertyType(property.getPropertyType())
+            .status(property.getStatus())
+            .price(property.getPrice())
+            .bedrooms(property.getBedrooms())
+            .bathrooms(property.getBathrooms())
+            .squareFootage(property.getSquareFootage())
+            .featured(property.getFeatured())
+            .imageUrl(property.getImageUrl())
+            .latitude(property.getLatitude())
+            .longitude(property.getLongitude())
+            .createdAt(property.getCreatedAt())
+            .version(property.getVersion())
+            .build();
+    }
+}
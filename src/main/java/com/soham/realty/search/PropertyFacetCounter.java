@@ -0,0 +1,120 @@
+package com.soham.realty.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import com.soham.realty.dto.response.PropertyFacetsResponse;
+import com.soham.realty.util.Constants;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Computes the search sidebar counts in a single pass over the in-memory catalog.
+ * Each facet ignores its own filter, so every option shows how many results picking it would give.
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertyFacetCounter {
+
+    // Prices are stored to two decimal places, so this is the gap between one bucket and the next
+    private static final BigDecimal PRICE_STEP = new BigDecimal("0.01");
+
+    private final PropertyCatalog propertyCatalog;
+
+    /**
+     * @param textMatches ids matching the free-text search and map area, or null when neither is given
+     */
+    public PropertyFacetsResponse count(PropertyFilter filter, Collection<Long> textMatches) {
+        Collection<PropertyDocument> candidates = textMatches == null
+            ? propertyCatalog.documents()
+            : textMatches.stream().map(propertyCatalog::get).flatMap(Optional::stream).collect(Collectors.toList());
+
+        Map<String, Long> types = new LinkedHashMap<>();
+        for (String type : Constants.PROPERTY_TYPES) {
+            types.put(type, 0L);
+        }
+        Map<String, Long> bedrooms = new LinkedHashMap<>();
+        for (int beds : Constants.BEDROOM_FACETS) {
+            bedrooms.put(beds + "+", 0L);
+        }
+        Map<String, Long> status = new LinkedHashMap<>();
+        for (String s : Constants.PROPERTY_STATUS) {
+            status.put(s, 0L);
+        }
+        Map<String, Long> cities = new HashMap<>();
+        long[] prices = new long[Constants.PRICE_HISTOGRAM_BOUNDS.length];
+        long total = 0;
+
+        for (PropertyDocument doc : candidates) {
+            // The map area is not a facet dimension, so it simply narrows every count
+            if (!filter.matchesGeo(doc)) {
+                continue;
+            }
+            boolean location = filter.matchesLocation(doc);
+            boolean price = filter.matchesPrice(doc);
+            boolean type = filter.matchesType(doc);
+            boolean beds = filter.matchesBedrooms(doc);
+
+            if (location && price && type && beds) {
+                total++;
+                status.merge(doc.getStatus(), 1L, Long::sum);
+            }
+            if (location && price && beds) {
+                types.merge(doc.getPropertyType(), 1L, Long::sum);
+            }
+            if (location && price && type) {
+                int docBeds = doc.getBedrooms() != null ? doc.getBedrooms() : 0;
+                for (int minBeds : Constants.BEDROOM_FACETS) {
+                    if (docBeds >= minBeds) {
+                        bedrooms.merge(minBeds + "+", 1L, Long::sum);
+                    }
+                }
+            }
+            if (price && type && beds && doc.getCity() != null) {
+                cities.merge(doc.getCity().trim(), 1L, Long::sum);
+            }
+            if (location && type && beds && doc.getPrice() != null) {
+                prices[priceBucket(doc.getPrice())]++;
+            }
+        }
+
+        Map<String, Long> topCities = cities.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .limit(Constants.MAX_CITY_FACETS)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+
+        return new PropertyFacetsResponse(total, types, bedrooms, status, topCities, toHistogram(prices));
+    }
+
+    private int priceBucket(BigDecimal price) {
+        long[] bounds = Constants.PRICE_HISTOGRAM_BOUNDS;
+        for (int i = bounds.length - 1; i > 0; i--) {
+            if (price.compareTo(BigDecimal.valueOf(bounds[i])) >= 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private List<PropertyFacetsResponse.PriceBucket> toHistogram(long[] counts) {
+        long[] bounds = Constants.PRICE_HISTOGRAM_BOUNDS;
+        List<PropertyFacetsResponse.PriceBucket> histogram = new ArrayList<>();
+        for (int i = 0; i < bounds.length; i++) {
+            BigDecimal min = BigDecimal.valueOf(bounds[i]);
+            // Each bucket includes its lower bound only. priceRange filters are inclusive on both ends, so
+            // the upper bound stops one paisa short of the next bucket: a whole rupee would drop the prices in between
+            BigDecimal max = i + 1 < bounds.length ? BigDecimal.valueOf(bounds[i + 1]).subtract(PRICE_STEP) : null;
+            String range = max != null ? min.toPlainString() + "-" + max.toPlainString() : min.toPlainString();
+            histogram.add(new PropertyFacetsResponse.PriceBucket(range, min, max, counts[i]));
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,98 @@
+package com.soham.realty.search;
+
+import com.soham.realty.dto.request.SearchRequest;
+import com.soham.realty.exception.BadRequestException;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset requested for listing pages, from {@code view=card|full} or an explicit
+ * {@code fields=} list of response properties. A full fieldset keeps the entity-based mapping;
+ * anything narrower is served by a column projection.
+ */
+@Getter
+public class PropertyFieldSet {
+
+    /** Cover image only, read from the denormalized {@code image_url} column. */
+    public static final String COVER_IMAGE = "image";
+    /** Every image in order, which needs the {@code property_images} lookup. */
+    public static final String ALL_IMAGES = "images";
+
+    private static final List<String> ALLOWED = List.of(
+        "id", "title", "price", "description", "address", "city", "state", "zip", COVER_IMAGE, ALL_IMAGES,
+        "bedrooms", "bathrooms", "squareFootage", "videoLink", "latitude", "longitude", "propertyType",
+        "featured", "status", "createdAt", "updatedAt");
+
+    // What the listing grid renders
+    private static final Set<String> CARD = new LinkedHashSet<>(List.of(
+        "id", "title", "price", "city", "bedrooms", "bathrooms", "propertyType", "status", "featured", COVER_IMAGE));
+
+    private static final PropertyFieldSet FULL = new PropertyFieldSet(null);
+
+    // Null means every field
+    private final Set<String> fields;
+
+    private PropertyFieldSet(Set<String> fields) {
+        this.fields = fields != null ? Collections.unmodifiableSet(fields) : null;
+    }
+
+    public static PropertyFieldSet from(SearchRequest request) {
+        if (request.getFields() != null && !request.getFields().isBlank()) {
+            Set<String> fields = new LinkedHashSet<>();
+            fields.add("id");
+            for (String field : request.getFields().split(",")) {
+                String name = field.trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if (!ALLOWED.contains(name)) {
+                    throw new BadRequestException("Unknown field: " + name);
+                }
+                fields.add(name);
+            }
+            return new PropertyFieldSet(fields);
+        }
+        String view = request.getView() != null ? request.getView().trim() : "full";
+        return switch (view) {
+            case "card" -> new PropertyFieldSet(CARD);
+            case "full", "" -> FULL;
+            default -> throw new BadRequestException("Unknown view: " + view + " (expected card or full)");
+        };
+    }
+
+    public boolean isFull() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * Entity attributes to select for this fieldset plus {@code required}, e.g. the keys a cursor
+     * is built from. {@code images} has no column and is loaded separately.
+     */
+    public Set<String> columns(String... required) {
+        Set<String> columns = new LinkedHashSet<>(Arrays.asList(required));
+        columns.add("id");
+        for (String field : fields != null ? fields : ALLOWED) {
+            if (COVER_IMAGE.equals(field)) {
+                columns.add("imageUrl");
+            } else if (!ALL_IMAGES.equals(field)) {
+                columns.add(field);
+            }
+        }
+        return columns;
+    }
+
+    public String signature() {
+        return fields == null ? "full" : fields.stream().sorted().collect(Collectors.joining(","));
+    }
+}
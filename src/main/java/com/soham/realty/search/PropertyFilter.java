@@ -0,0 +1,267 @@
+package com.soham.realty.search;
+
+import com.soham.realty.dto.request.SearchRequest;
+import com.soham.realty.exception.BadRequestException;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Normalized form of the filters carried by a {@link SearchRequest}. Parsing happens once here so
+ * the JPA specification and the in-memory indexes apply exactly the same rules.
+ */
+@Getter
+@ToString
+public class PropertyFilter {
+    private static final double MAX_RADIUS_KM = 500;
+
+    private final String search;
+    private final String location;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final String propertyType;
+    private final Integer minBedrooms;
+
+    // Geo: center is set for radius searches and distance sorting, the box bounds any geo filter
+    private final GeoPoint center;
+    private final Double radiusKm;
+    private final Double south;
+    private final Double north;
+    private final Double west;
+    private final Double east;
+
+    private PropertyFilter(String search, String location, BigDecimal minPrice, BigDecimal maxPrice,
+                           String propertyType, Integer minBedrooms, GeoPoint center, Double radiusKm,
+                           Double south, Double north, Double west, Double east) {
+        this.search = search;
+        this.location = location;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.propertyType = propertyType;
+        this.minBedrooms = minBedrooms;
+        this.center = center;
+        this.radiusKm = radiusKm;
+        this.south = south;
+        this.north = north;
+        this.west = west;
+        this.east = east;
+    }
+
+    public static PropertyFilter from(SearchRequest request) {
+        String search = normalize(request.getSearch());
+        String location = normalize(request.getLocation());
+
+        BigDecimal minPrice = null;
+        BigDecimal maxPrice = null;
+        if (request.getPriceRange() != null && !request.getPriceRange().isEmpty()) {
+            String[] range = request.getPriceRange().split("-");
+            minPrice = new BigDecimal(range[0]);
+            if (range.length > 1) {
+                maxPrice = new BigDecimal(range[1]);
+            }
+        }
+
+        String propertyType = request.getPropertyType();
+        if (propertyType == null || propertyType.isEmpty() || "All Types".equals(propertyType)) {
+            propertyType = null;
+        }
+
+        Integer minBedrooms = null;
+        if (request.getBedrooms() != null && !request.getBedrooms().isEmpty() && !"Any".equals(request.getBedrooms())) {
+            minBedrooms = Integer.parseInt(request.getBedrooms().replace("+", ""));
+        }
+
+        GeoPoint center = null;
+        Double radiusKm = null;
+        Double south = null;
+        Double north = null;
+        Double west = null;
+        Double east = null;
+        if (request.getLat() != null && request.getLng() != null) {
+            if (Math.abs(request.getLat()) > 90 || Math.abs(request.getLng()) > 180) {
+                throw new BadRequestException("Invalid coordinates");
+            }
+            center = new GeoPoint(request.getLat(), request.getLng());
+            if (request.getRadiusKm() != null) {
+                if (request.getRadiusKm() <= 0 || request.getRadiusKm() > MAX_RADIUS_KM) {
+                    throw new BadRequestException("radiusKm must be between 0 and " + (int) MAX_RADIUS_KM);
+                }
+                radiusKm = request.getRadiusKm();
+                double dLat = GeoPoint.latitudeDelta(radiusKm);
+                double dLng = GeoPoint.longitudeDelta(radiusKm, center.getLatitude());
+                south = Math.max(-90, center.getLatitude() - dLat);
+                north = Math.min(90, center.getLatitude() + dLat);
+                west = wrapLongitude(center.getLongitude() - dLng);
+                east = wrapLongitude(center.getLongitude() + dLng);
+                if (dLng >= 180) {
+                    west = -180.0;
+                    east = 180.0;
+                }
+            }
+        }
+        if (request.getNorth() != null && request.getSouth() != null && request.getEast() != null && request.getWest() != null) {
+            if (request.getSouth() > request.getNorth()) {
+                throw new BadRequestException("south must not be greater than north");
+            }
+            // An explicit viewport replaces the circle's box; the radius itself still applies
+            south = request.getSouth();
+            north = request.getNorth();
+            west = request.getWest();
+            east = request.getEast();
+        }
+
+        return new PropertyFilter(search, location, minPrice, maxPrice, propertyType, minBedrooms,
+            center, radiusKm, south, north, west, east);
+    }
+
+    /**
+     * Canonical, order-independent key for this filter. Two requests that select the same rows
+     * produce the same signature regardless of casing, padding or number formatting. The center is
+     * part of it even without a radius, since it still decides the distance ordering.
+     */
+    public String signature() {
+        return "s=" + (search != null ? search : "")
+            + "|l=" + (location != null ? location : "")
+            + "|min=" + (minPrice != null ? minPrice.stripTrailingZeros().toPlainString() : "")
+            + "|max=" + (maxPrice != null ? maxPrice.stripTrailingZeros().toPlainString() : "")
+            + "|t=" + (propertyType != null ? propertyType : "")
+            + "|b=" + (minBedrooms != null ? minBedrooms : "")
+            + "|geo=" + (hasGeoFilter() ? south + "," + west + "," + north + "," + east : "")
+            + "|c=" + (center != null ? center.getLatitude() + "," + center.getLongitude() : "")
+            + "|r=" + (radiusKm != null ? radiusKm : "");
+    }
+
+    // True when no criterion narrows the result; a center without a radius only affects sorting
+    public boolean isEmpty() {
+        return search == null && location == null && minPrice == null && maxPrice == null
+            && propertyType == null && minBedrooms == null && radiusKm == null && !hasGeoFilter();
+    }
+
+    public boolean hasSearch() {
+        return search != null;
+    }
+
+    public boolean hasGeoFilter() {
+        return south != null;
+    }
+
+    /** True when the box wraps across the antimeridian. */
+    public boolean crossesAntimeridian() {
+        return hasGeoFilter() && west > east;
+    }
+
+    /**
+     * Evaluate every filter except the free-text search, which is answered by {@link PropertySearchIndex}.
+     */
+    public boolean matches(PropertyDocument doc) {
+        return matchesLocation(doc) && matchesPrice(doc) && matchesType(doc) && matchesBedrooms(doc) && matchesGeo(doc);
+    }
+
+    public boolean matchesGeo(PropertyDocument doc) {
+        if (!hasGeoFilter()) {
+            return true;
+        }
+        if (!doc.hasLocation() || doc.getLatitude() < south || doc.getLatitude() > north) {
+            return false;
+        }
+        double lng = doc.getLongitude();
+        boolean inLongitude = crossesAntimeridian() ? (lng >= west || lng <= east) : (lng >= west && lng <= east);
+        return inLongitude && (radiusKm == null || center.distanceKm(doc) <= radiusKm);
+    }
+
+    /**
+     * Conservative text check used for cache invalidation: true when the document could be
+     * returned for the search term by either the inverted index or the LIKE fallback.
+     */
+    public boolean mayMatchSearch(PropertyDocument doc) {
+        if (search == null) {
+            return true;
+        }
+        if (contains(doc.getTitle(), search) || contains(doc.getDescription(), search) || contains(doc.getAddress(), search)
+                || contains(doc.getCity(), search) || contains(doc.getZip(), search)) {
+            return true;
+        }
+        String text = String.join(" ", nullToEmpty(doc.getTitle()), nullToEmpty(doc.getDescription()),
+            nullToEmpty(doc.getAddress()), nullToEmpty(doc.getCity()), nullToEmpty(doc.getZip()));
+        List<String> words = PropertySearchIndex.tokenize(text);
+        for (String term : PropertySearchIndex.tokenize(search)) {
+            if (words.stream().noneMatch(w -> w.startsWith(term))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Exact single-document form of the inverted index semantics: every term must be a word of
+     * the listing, the last one may be a prefix.
+     */
+    public boolean matchesSearch(PropertyDocument doc) {
+        if (search == null) {
+            return true;
+        }
+        String text = String.join(" ", nullToEmpty(doc.getTitle()), nullToEmpty(doc.getDescription()),
+            nullToEmpty(doc.getAddress()), nullToEmpty(doc.getCity()), nullToEmpty(doc.getZip()));
+        Set<String> words = new HashSet<>(PropertySearchIndex.tokenize(text));
+        List<String> terms = PropertySearchIndex.tokenize(search);
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            boolean found = i == terms.size() - 1
+                ? words.stream().anyMatch(w -> w.startsWith(term))
+                : words.contains(term);
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean matchesLocation(PropertyDocument doc) {
+        if (location == null) {
+            return true;
+        }
+        return contains(doc.getCity(), location) || contains(doc.getAddress(), location) || contains(doc.getZip(), location);
+    }
+
+    public boolean matchesPrice(PropertyDocument doc) {
+        if (minPrice != null && (doc.getPrice() == null || doc.getPrice().compareTo(minPrice) < 0)) {
+            return false;
+        }
+        return maxPrice == null || (doc.getPrice() != null && doc.getPrice().compareTo(maxPrice) <= 0);
+    }
+
+    public boolean matchesType(PropertyDocument doc) {
+        return propertyType == null || propertyType.equals(doc.getPropertyType());
+    }
+
+    public boolean matchesBedrooms(PropertyDocument doc) {
+        return minBedrooms == null || (doc.getBedrooms() != null && doc.getBedrooms() >= minBedrooms);
+    }
+
+    private static boolean contains(String value, String lowerCaseTerm) {
+        return value != null && value.toLowerCase().contains(lowerCaseTerm);
+    }
+
+    private static double wrapLongitude(double lng) {
+        if (lng < -180) {
+            return lng + 360;
+        }
+        return lng > 180 ? lng - 360 : lng;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,144 @@
+package com.soham.realty.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Uniform lat/lng grid over located properties. A radius or viewport query only visits the cells
+ * its bounding box overlaps; exact distance checks are left to {@link PropertyFilter#matchesGeo}.
+ */
+@Component
+@Slf4j
+public class PropertyGeoIndex implements PropertyIndex {
+
+    // 0.1 degree cells, roughly 11 km north-south
+    private static final double CELL_DEGREES = 0.1;
+    // Beyond this many cells a query simply returns every located property
+    private static final int MAX_CELLS_PER_QUERY = 20_000;
+
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+    private final Map<Long, Long> cellById = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void rebuild(Collection<PropertyDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            cellById.clear();
+            documents.forEach(this::insert);
+            log.info("Geo index built with {} located properties in {} cells", cellById.size(), cells.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onChange(PropertyDocument before, PropertyDocument after) {
+        lock.writeLock().lock();
+        try {
+            if (before != null) {
+                remove(before.getId());
+            }
+            if (after != null) {
+                remove(after.getId());
+                insert(after);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of located properties in the cells overlapping the filter's bounding box. The result is a
+     * superset of the matches and must still be checked with {@link PropertyFilter#matches}.
+     */
+    public Set<Long> candidates(PropertyFilter filter) {
+        lock.readLock().lock();
+        try {
+            if (!filter.hasGeoFilter()) {
+                return new HashSet<>(cellById.keySet());
+            }
+            int southRow = row(filter.getSouth());
+            int northRow = row(filter.getNorth());
+
+            List<int[]> columnRanges = new ArrayList<>();
+            if (filter.crossesAntimeridian()) {
+                columnRanges.add(new int[] {column(filter.getWest()), column(180.0)});
+                columnRanges.add(new int[] {column(-180.0), column(filter.getEast())});
+            } else {
+                columnRanges.add(new int[] {column(filter.getWest()), column(filter.getEast())});
+            }
+
+            long cellCount = 0;
+            for (int[] range : columnRanges) {
+                cellCount += (long) (northRow - southRow + 1) * (range[1] - range[0] + 1);
+            }
+            if (cellCount > MAX_CELLS_PER_QUERY || cellCount > cells.size() * 4L) {
+                // Huge box or sparse grid: walking the occupied cells is cheaper
+                return new HashSet<>(cellById.keySet());
+            }
+
+            Set<Long> result = new HashSet<>();
+            for (int r = southRow; r <= northRow; r++) {
+                for (int[] range : columnRanges) {
+                    for (int c = range[0]; c <= range[1]; c++) {
+                        Set<Long> ids = cells.get(key(r, c));
+                        if (ids != null) {
+                            result.addAll(ids);
+                        }
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(PropertyDocument doc) {
+        if (!doc.hasLocation()) {
+            return;
+        }
+        long key = key(row(doc.getLatitude()), column(doc.getLongitude()));
+        cells.computeIfAbsent(key, k -> new HashSet<>()).add(doc.getId());
+        cellById.put(doc.getId(), key);
+    }
+
+    private void remove(Long id) {
+        Long key = cellById.remove(id);
+        if (key == null) {
+            return;
+        }
+        Set<Long> ids = cells.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+}
@@ -0,0 +1,16 @@
+package com.soham.realty.search;
+
+import java.util.Collection;
+
+/**
+ * An in-memory structure derived from the property catalog. Implementations are
+ * registered as beans and kept up to date by {@link PropertyCatalog}.
+ */
+public interface PropertyIndex {
+
+    /** Replace the whole index content, called once the catalog has been loaded. */
+    void rebuild(Collection<PropertyDocument> documents);
+
+    /** Apply a single committed write. {@code before} is null on create, {@code after} is null on delete. */
+    void onChange(PropertyDocument before, PropertyDocument after);
+}
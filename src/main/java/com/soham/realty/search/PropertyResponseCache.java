@@ -0,0 +1,120 @@
+package com.soham.realty.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soham.realty.event.PropertyBulkChangeEvent;
+import com.soham.realty.event.PropertyChangeEvent;
+import com.soham.realty.event.PropertyImportCompletedEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Final response bodies of the hottest read endpoints, kept as UTF-8 JSON and gzip bytes so a hit
+ * skips both Jackson and compression. Each entry is stored under the ETag of the data it was built
+ * from and only served while that ETag is current; committed writes also clear it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PropertyResponseCache {
+
+    private static final int MAX_ENTRIES = 500;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, CachedResponse> entries = Collections.synchronizedMap(
+        new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        });
+
+    /**
+     * Return the cached bytes for {@code key} if they were built for {@code etag}; otherwise build
+     * the body, serialize and compress it once, and cache the result under {@code etagOf(body)}.
+     * A body read from a cache that is still refreshing tags itself with its own, older ETag, so it
+     * is never served as current.
+     */
+    public <T> CachedResponse getOrBuild(String key, String etag, Supplier<T> body, Function<? super T, String> etagOf) {
+        CachedResponse cached = entries.get(key);
+        if (cached != null && cached.etag.equals(etag)) {
+            return cached;
+        }
+        T value = body.get();
+        CachedResponse built = serialize(etagOf.apply(value), value);
+        entries.put(key, built);
+        return built;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PropertyCatalog.CACHE_LISTENER_ORDER)
+    public void onPropertyChange(PropertyChangeEvent event) {
+        clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PropertyCatalog.CACHE_LISTENER_ORDER)
+    public void onPropertyImport(PropertyImportCompletedEvent event) {
+        clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PropertyCatalog.CACHE_LISTENER_ORDER)
+    public void onPropertyBulkChange(PropertyBulkChangeEvent event) {
+        clear();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private CachedResponse serialize(String etag, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            return new CachedResponse(etag, json, compressed.toByteArray());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize cached response", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static final class CachedResponse {
+        private final String etag;
+        private final byte[] json;
+        private final byte[] gzip;
+
+        private CachedResponse(String etag, byte[] json, byte[] gzip) {
+            this.etag = etag;
+            this.json = json;
+            this.gzip = gzip;
+        }
+
+        public String etag() {
+            return etag;
+        }
+
+        public byte[] body(boolean gzipped) {
+            return gzipped ? gzip : json;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.soham.realty.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Tokenized inverted index over title, description, address, city and zip, ranked with BM25.
+ * Replaces the leading-wildcard LIKE scan for the {@code search} parameter.
+ */
+@Component
+@Slf4j
+public class PropertySearchIndex implements PropertyIndex {
+
+    // BM25 tuning, the usual defaults
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Field boosts applied to term frequency
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float CITY_WEIGHT = 2.0f;
+    private static final float ADDRESS_WEIGHT = 1.5f;
+    private static final float ZIP_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    // Prefix matches rank a little below exact token matches
+    private static final double PREFIX_MATCH_FACTOR = 0.8;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, Set<String>> docTerms = new HashMap<>();
+    private final Map<Long, Float> docLengths = new HashMap<>();
+    private double totalLength = 0;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void rebuild(Collection<PropertyDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docTerms.clear();
+            docLengths.clear();
+            totalLength = 0;
+            documents.forEach(this::addDocument);
+            log.info("Search index built: {} documents, {} terms", docLengths.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onChange(PropertyDocument before, PropertyDocument after) {
+        lock.writeLock().lock();
+        try {
+            if (before != null) {
+                removeDocument(before.getId());
+            }
+            if (after != null) {
+                removeDocument(after.getId());
+                addDocument(after);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Score every document containing all query terms. The last term also matches as a prefix
+     * so partially typed words still find results.
+     *
+     * @return BM25 score by property id, empty when nothing matches
+     */
+    public Map<Long, Double> search(String query) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            int docCount = docLengths.size();
+            if (docCount == 0) {
+                return new HashMap<>();
+            }
+            double avgLength = totalLength / docCount;
+
+            Map<Long, Double> scores = null;
+            for (int i = 0; i < terms.size(); i++) {
+                boolean allowPrefix = i == terms.size() - 1;
+                Map<Long, Double> termScores = scoreTerm(terms.get(i), allowPrefix, docCount, avgLength);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // Conjunctive: keep only documents matching every term so far
+                    Map<Long, Double> merged = new HashMap<>();
+                    for (Map.Entry<Long, Double> e : scores.entrySet()) {
+                        Double s = termScores.get(e.getKey());
+                        if (s != null) {
+                            merged.put(e.getKey(), e.getValue() + s);
+                        }
+                    }
+                    scores = merged;
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreTerm(String term, boolean allowPrefix, int docCount, double avgLength) {
+        Map<Long, Double> scores = new HashMap<>();
+
+        Map<Long, Float> exact = postings.get(term);
+        if (exact != null) {
+            accumulate(scores, exact, 1.0, docCount, avgLength);
+        }
+
+        if (allowPrefix) {
+            int expansions = 0;
+            for (Map.Entry<String, Map<Long, Float>> entry : postings.tailMap(term, false).entrySet()) {
+                if (!entry.getKey().startsWith(term) || ++expansions > MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                accumulate(scores, entry.getValue(), PREFIX_MATCH_FACTOR, docCount, avgLength);
+            }
+        }
+        return scores;
+    }
+
+    private void accumulate(Map<Long, Double> scores, Map<Long, Float> postingList, double factor,
+                            int docCount, double avgLength) {
+        int df = postingList.size();
+        double idf = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+        for (Map.Entry<Long, Float> posting : postingList.entrySet()) {
+            double tf = posting.getValue();
+            double length = docLengths.getOrDefault(posting.getKey(), 0f);
+            double norm = tf + K1 * (1 - B + B * length / avgLength);
+            double score = factor * idf * tf * (K1 + 1) / norm;
+            scores.merge(posting.getKey(), score, Math::max);
+        }
+    }
+
+    private void addDocument(PropertyDocument doc) {
+        Map<String, Float> termFrequencies = new HashMap<>();
+        float length = 0;
+        length += addField(termFrequencies, doc.getTitle(), TITLE_WEIGHT);
+        length += addField(termFrequencies, doc.getCity(), CITY_WEIGHT);
+        length += addField(termFrequencies, doc.getAddress(), ADDRESS_WEIGHT);
+        length += addField(termFrequencies, doc.getZip(), ZIP_WEIGHT);
+        length += addField(termFrequencies, doc.getDescription(), DESCRIPTION_WEIGHT);
+
+        for (Map.Entry<String, Float> e : termFrequencies.entrySet()) {
+            postings.computeIfAbsent(e.getKey(), k -> new HashMap<>()).put(doc.getId(), e.getValue());
+        }
+        docTerms.put(doc.getId(), new HashSet<>(termFrequencies.keySet()));
+        docLengths.put(doc.getId(), length);
+        totalLength += length;
+    }
+
+    private void removeDocument(Long id) {
+        Set<String> terms = docTerms.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Float> postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(id);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        Float length = docLengths.remove(id);
+        if (length != null) {
+            totalLength -= length;
+        }
+    }
+
+    private float addField(Map<String, Float> termFrequencies, String text, float weight) {
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            termFrequencies.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase().split("[^\\p{L}\\p{Nd}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
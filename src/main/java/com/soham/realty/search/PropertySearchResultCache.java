@@ -0,0 +1,149 @@
+package com.soham.realty.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.soham.realty.dto.request.SearchRequest;
+import com.soham.realty.dto.response.PaginatedResponse;
+import com.soham.realty.dto.response.PropertyResponse;
+import com.soham.realty.event.PropertyBulkChangeEvent;
+import com.soham.realty.event.PropertyChangeEvent;
+import com.soham.realty.event.PropertyImportCompletedEvent;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Listing results keyed by the canonical search request. Concurrent misses for the same key share
+ * one load, and a property write only drops the entries whose filters match the old or new row.
+ */
+@Component
+@Slf4j
+public class PropertySearchResultCache {
+
+    private static final int MAX_ENTRIES = 500;
+    // Safety net only; invalidation is driven by property change events
+    private static final long TTL_MILLIS = 5 * 60 * 1000L;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public PaginatedResponse<PropertyResponse> get(SearchRequest request, PropertyFilter filter,
+                                                   Supplier<PaginatedResponse<PropertyResponse>> loader) {
+        String key = key(request, filter);
+        long now = System.currentTimeMillis();
+
+        Entry candidate = new Entry(filter, now);
+        Entry entry = entries.compute(key, (k, existing) ->
+            existing != null && !existing.isExpired(now) ? existing : candidate);
+        entry.lastAccess = now;
+
+        if (entry == candidate) {
+            evictIfFull();
+            try {
+                entry.future.complete(loader.get());
+            } catch (RuntimeException e) {
+                entries.remove(key, entry);
+                entry.future.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            // Waiters see the loader's own exception, e.g. BadRequestException for a bad priceRange
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PropertyCatalog.CACHE_LISTENER_ORDER)
+    public void onPropertyImport(PropertyImportCompletedEvent event) {
+        clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PropertyCatalog.CACHE_LISTENER_ORDER)
+    public void onPropertyBulkChange(PropertyBulkChangeEvent event) {
+        clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(PropertyCatalog.CACHE_LISTENER_ORDER)
+    public void onPropertyChange(PropertyChangeEvent event) {
+        PropertyDocument before = event.getBefore();
+        PropertyDocument after = event.getAfter();
+        int removed = 0;
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            PropertyFilter filter = e.getValue().filter;
+            if ((before != null && couldContain(filter, before)) || (after != null && couldContain(filter, after))) {
+                if (entries.remove(e.getKey(), e.getValue())) {
+                    removed++;
+                }
+            }
+        }
+        log.debug("Property {} changed, invalidated {} cached searches", event.getPropertyId(), removed);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static boolean couldContain(PropertyFilter filter, PropertyDocument doc) {
+        return filter.matches(doc) && filter.mayMatchSearch(doc);
+    }
+
+    /**
+     * Canonical key: normalized filter signature plus the paging and sort defaults the service applies.
+     */
+    static String key(SearchRequest request, PropertyFilter filter) {
+        return filter.signature()
+            + "|sort=" + PropertySort.from(request.getSortBy() != null ? request.getSortBy().trim() : null)
+            + "|page=" + (request.getPage() != null ? request.getPage() : 1)
+            + "|limit=" + (request.getLimit() != null ? request.getLimit() : 9)
+            + "|approx=" + Boolean.TRUE.equals(request.getApproximateTotal())
+            + "|fields=" + PropertyFieldSet.from(request).signature();
+    }
+
+    private void evictIfFull() {
+        int excess = entries.size() - MAX_ENTRIES;
+        if (excess <= 0) {
+            return;
+        }
+        entries.entrySet().stream()
+            .filter(e -> e.getValue().future.isDone())
+            .sorted(Comparator.comparingLong(e -> e.getValue().lastAccess))
+            .limit(excess)
+            .forEach(e -> entries.remove(e.getKey(), e.getValue()));
+    }
+
+    private static class Entry {
+        private final PropertyFilter filter;
+        private final long createdAt;
+        private final CompletableFuture<PaginatedResponse<PropertyResponse>> future = new CompletableFuture<>();
+        private volatile long lastAccess;
+
+        Entry(PropertyFilter filter, long createdAt) {
+            this.filter = filter;
+            this.createdAt = createdAt;
+            this.lastAccess = createdAt;
+        }
+
+        boolean isExpired(long now) {
+            return future.isDone() && now - createdAt > TTL_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.soham.realty.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Nearest-neighbour index for "similar properties". Every available listing is a small vector of
+ * pre-scaled numeric features (log price, log area, bedrooms, bathrooms) in one flat float array,
+ * plus type and city codes that add a fixed penalty when they differ. A query is a brute-force
+ * pass over the array with a bounded heap, which at catalog sizes is cheaper than maintaining a
+ * graph index and stays exact.
+ */
+@Component
+@Slf4j
+public class PropertySimilarityIndex implements PropertyIndex {
+
+    private static final String AVAILABLE = "Available";
+    private static final int DIMENSIONS = 4;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Feature scales: a difference of one scale unit costs as much as a type or city mismatch
+    private static final double PRICE_SCALE = 0.35;        // ~40% price difference
+    private static final double AREA_SCALE = 0.35;
+    private static final double BEDROOM_SCALE = 1.0;
+    private static final double BATHROOM_SCALE = 1.0;
+    private static final float TYPE_PENALTY = 1.0f;
+    private static final float CITY_PENALTY = 1.5f;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    // DIMENSIONS floats per slot; NaN marks a missing feature, which then does not count
+    private float[] features = new float[INITIAL_CAPACITY * DIMENSIONS];
+    private int[] typeCodes = new int[INITIAL_CAPACITY];
+    private int[] cityCodes = new int[INITIAL_CAPACITY];
+    private boolean[] live = new boolean[INITIAL_CAPACITY];
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int highWater = 0;
+
+    private final Map<String, Integer> typeCodeByName = new HashMap<>();
+    private final Map<String, Integer> cityCodeByName = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void rebuild(Collection<PropertyDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            Arrays.fill(live, false);
+            slotById.clear();
+            freeSlots.clear();
+            highWater = 0;
+            documents.forEach(this::insert);
+            log.info("Similarity index built with {} available properties", slotById.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onChange(PropertyDocument before, PropertyDocument after) {
+        lock.writeLock().lock();
+        try {
+            if (before != null) {
+                remove(before.getId());
+            }
+            if (after != null) {
+                remove(after.getId());
+                insert(after);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the {@code limit} available listings closest to {@code doc}, nearest first. The
+     * listing itself is never returned, whether or not it is available.
+     */
+    public List<Long> similarTo(PropertyDocument doc, int limit) {
+        float[] query = new float[DIMENSIONS];
+        featuresOf(doc, query, 0);
+
+        lock.readLock().lock();
+        try {
+            Integer typeCode = typeCodeByName.get(key(doc.getPropertyType()));
+            Integer cityCode = cityCodeByName.get(key(doc.getCity()));
+            int queryType = typeCode != null ? typeCode : -1;
+            int queryCity = cityCode != null ? cityCode : -1;
+
+            // Max-heap of (distance, slot) packed into a long: distances are non-negative, so their
+            // IEEE bits sort like the values and the worst of the current best k is evicted first
+            PriorityQueue<Long> heap = new PriorityQueue<>(limit + 1, Comparator.reverseOrder());
+            for (int slot = 0; slot < highWater; slot++) {
+                if (!live[slot] || ids[slot] == doc.getId()) {
+                    continue;
+                }
+                float distance = distance(query, slot);
+                if (typeCodes[slot] != queryType) {
+                    distance += TYPE_PENALTY;
+                }
+                if (cityCodes[slot] != queryCity) {
+                    distance += CITY_PENALTY;
+                }
+                long entry = ((long) Float.floatToIntBits(distance) << 32) | slot;
+                if (heap.size() < limit) {
+                    heap.add(entry);
+                } else if (entry < heap.peek()) {
+                    heap.poll();
+                    heap.add(entry);
+                }
+            }
+
+            long[] nearest = new long[heap.size()];
+            for (int i = nearest.length - 1; i >= 0; i--) {
+                nearest[i] = ids[(int) (heap.poll() & 0xffffffffL)];
+            }
+            List<Long> result = new ArrayList<>(nearest.length);
+            for (long id : nearest) {
+                result.add(id);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Squared euclidean distance over the numeric features, skipping ones missing on either side
+    private float distance(float[] query, int slot) {
+        int base = slot * DIMENSIONS;
+        float sum = 0f;
+        for (int d = 0; d < DIMENSIONS; d++) {
+            float diff = query[d] - features[base + d];
+            if (diff == diff) {
+                sum += diff * diff;
+            }
+        }
+        return sum;
+    }
+
+    private void insert(PropertyDocument doc) {
+        // Only available listings are recommended; sold ones simply drop out
+        if (!AVAILABLE.equals(doc.getStatus())) {
+            return;
+        }
+        int slot = freeSlots.isEmpty() ? highWater++ : freeSlots.pop();
+        ensureCapacity(slot + 1);
+
+        ids[slot] = doc.getId();
+        featuresOf(doc, features, slot * DIMENSIONS);
+        typeCodes[slot] = typeCodeByName.computeIfAbsent(key(doc.getPropertyType()), k -> typeCodeByName.size());
+        cityCodes[slot] = cityCodeByName.computeIfAbsent(key(doc.getCity()), k -> cityCodeByName.size());
+        live[slot] = true;
+        slotById.put(doc.getId(), slot);
+    }
+
+    private void remove(Long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        live[slot] = false;
+        freeSlots.push(slot);
+    }
+
+    private static void featuresOf(PropertyDocument doc, float[] target, int offset) {
+        target[offset] = logScaled(doc.getPrice(), PRICE_SCALE);
+        target[offset + 1] = doc.getSquareFootage() != null && doc.getSquareFootage() > 0
+            ? (float) (Math.log(doc.getSquareFootage()) / AREA_SCALE)
+            : Float.NaN;
+        target[offset + 2] = doc.getBedrooms() != null ? (float) (doc.getBedrooms() / BEDROOM_SCALE) : Float.NaN;
+        target[offset + 3] = doc.getBathrooms() != null ? (float) (doc.getBathrooms().doubleValue() / BATHROOM_SCALE) : Float.NaN;
+    }
+
+    private static float logScaled(BigDecimal value, double scale) {
+        return value != null && value.signum() > 0 ? (float) (Math.log(value.doubleValue()) / scale) : Float.NaN;
+    }
+
+    private static String key(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        features = Arrays.copyOf(features, capacity * DIMENSIONS);
+        typeCodes = Arrays.copyOf(typeCodes, capacity);
+        cityCodes = Arrays.copyOf(cityCodes, capacity);
+        live = Arrays.copyOf(live, capacity);
+    }
+}
@@ -0,0 +1,45 @@
+package com.soham.realty.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Sort orders accepted by the {@code sortBy} request parameter.
+ */
+public enum PropertySort {
+    NEWEST,
+    PRICE_LOW,
+    PRICE_HIGH,
+    RELEVANCE,
+    DISTANCE;
+
+    public static PropertySort from(String sortBy) {
+        return switch (sortBy != null ? sortBy : "newest") {
+            case "priceLow" -> PRICE_LOW;
+            case "priceHigh" -> PRICE_HIGH;
+            case "relevance" -> RELEVANCE;
+            case "distance" -> DISTANCE;
+            default -> NEWEST;
+        };
+    }
+
+    /**
+     * In-memory equivalent of the JPA sort, with the id as tie-breaker so pages are stable.
+     * Relevance and distance have no document-only ordering and fall back to newest first.
+     */
+    public Comparator<PropertyDocument> comparator() {
+        Comparator<PropertyDocument> byId = Comparator.comparing(PropertyDocument::getId, Comparator.reverseOrder());
+        return switch (this) {
+            case PRICE_LOW -> Comparator.comparing(PropertyDocument::getPrice,
+                    Comparator.nullsLast(Comparator.<BigDecimal>naturalOrder()))
+                .thenComparing(PropertyDocument::getId);
+            case PRICE_HIGH -> Comparator.comparing(PropertyDocument::getPrice,
+                    Comparator.nullsLast(Comparator.<BigDecimal>reverseOrder()))
+                .thenComparing(byId);
+            default -> Comparator.comparing(PropertyDocument::getCreatedAt,
+                    Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                .thenComparing(byId);
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package com.soham.realty.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import com.soham.realty.dto.response.SuggestionResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * Prefix index for search-as-you-type over cities, zips, address words and titles. Keys live in a
+ * sorted skip list so a lookup is a range scan from the typed prefix, with no database access.
+ */
+@Component
+@Slf4j
+public class PropertySuggestIndex implements PropertyIndex {
+
+    public enum SuggestionType { CITY, ZIP, ADDRESS, TITLE }
+
+    private static final int MIN_ADDRESS_TOKEN_LENGTH = 3;
+
+    // Most listings first; the text breaks the remaining ties in key order
+    private static final Comparator<Suggestion> RANK = Comparator.<Suggestion>comparingInt(s -> s.count).reversed()
+        .thenComparing(s -> s.type)
+        .thenComparingInt(s -> s.text.length())
+        .thenComparing(s -> s.text.toLowerCase());
+
+    // key is "<lower-case text>\0<type>" so the same text can appear once per type
+    private final ConcurrentSkipListMap<String, Suggestion> suggestions = new ConcurrentSkipListMap<>();
+
+    @Override
+    public synchronized void rebuild(Collection<PropertyDocument> documents) {
+        suggestions.clear();
+        documents.forEach(doc -> apply(doc, 1));
+        log.info("Suggest index built with {} entries", suggestions.size());
+    }
+
+    @Override
+    public synchronized void onChange(PropertyDocument before, PropertyDocument after) {
+        if (before != null) {
+            apply(before, -1);
+        }
+        if (after != null) {
+            apply(after, 1);
+        }
+    }
+
+    /**
+     * Suggestions starting with {@code query}, most listings first.
+     */
+    public List<SuggestionResponse> suggest(String query, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        String prefix = query.trim().toLowerCase();
+        ConcurrentNavigableMap<String, Suggestion> range = suggestions.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+
+        // A short prefix can cover most of the index; keep only the best few in a heap rather than sorting the range
+        PriorityQueue<Suggestion> best = new PriorityQueue<>(limit + 1, RANK.reversed());
+        for (Suggestion suggestion : range.values()) {
+            if (suggestion.count <= 0) {
+                continue;
+            }
+            // Counts change under concurrent writes; the heap holds copies so its order stays consistent
+            if (best.size() < limit) {
+                best.add(suggestion.snapshot());
+            } else if (RANK.compare(suggestion, best.peek()) < 0) {
+                best.poll();
+                best.add(suggestion.snapshot());
+            }
+        }
+
+        List<Suggestion> ranked = new ArrayList<>(best);
+        ranked.sort(RANK);
+        return ranked.stream()
+            .map(s -> new SuggestionResponse(s.text, s.type.name(), s.count))
+            .collect(Collectors.toList());
+    }
+
+    private void apply(PropertyDocument doc, int delta) {
+        // Count each value once per listing even if it appears in several fields
+        Map<String, Suggestion> contributions = new HashMap<>();
+        add(contributions, doc.getCity(), SuggestionType.CITY);
+        add(contributions, doc.getZip(), SuggestionType.ZIP);
+        add(contributions, doc.getTitle(), SuggestionType.TITLE);
+        for (String token : PropertySearchIndex.tokenize(doc.getAddress())) {
+            if (token.length() >= MIN_ADDRESS_TOKEN_LENGTH && !token.chars().allMatch(Character::isDigit)) {
+                add(contributions, token, SuggestionType.ADDRESS);
+            }
+        }
+
+        for (Map.Entry<String, Suggestion> e : contributions.entrySet()) {
+            Suggestion current = suggestions.computeIfAbsent(e.getKey(), k -> e.getValue());
+            current.count += delta;
+            if (current.count <= 0) {
+                suggestions.remove(e.getKey());
+            }
+        }
+    }
+
+    private static void add(Map<String, Suggestion> contributions, String text, SuggestionType type) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String display = text.trim();
+        contributions.putIfAbsent(display.toLowerCase() + '\0' + type.name(), new Suggestion(display, type));
+    }
+
+    private static class Suggestion {
+        private final String text;
+        private final SuggestionType type;
+        private volatile int count;
+
+        Suggestion(String text, SuggestionType type) {
+            this.text = text;
+            this.type = type;
+        }
+
+        private Suggestion snapshot() {
+            Suggestion copy = new Suggestion(text, type);
+            copy.count = count;
+            return copy;
+        }
+    }
+}
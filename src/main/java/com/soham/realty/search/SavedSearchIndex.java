@@ -0,0 +1,186 @@
+package com.soham.realty.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Reverse index of saved searches: instead of running every saved query against the catalog, a
+ * changed listing is looked up here and only the saved searches in its buckets are evaluated.
+ *
+ * A saved search is filed under its property type, one trigram of its location term and every
+ * price band its price range overlaps, with {@code *} standing for "any". A listing probes its own
+ * type and band against each trigram of its city, address and zip (plus the wildcards), so a
+ * location substring match always shares at least the registered trigram.
+ */
+@Component
+@Slf4j
+public class SavedSearchIndex {
+
+    private static final String ANY = "*";
+    private static final int GRAM = 3;
+    // Price bands double from 1 lakh upwards; band 0 also takes anything cheaper
+    private static final double BAND_BASE = 100_000;
+    private static final int MAX_BAND = 20;
+
+    private final Map<Long, PropertyFilter> filters = new HashMap<>();
+    private final Map<Long, List<String>> keysById = new HashMap<>();
+    private final Map<String, Set<Long>> buckets = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void rebuild(Map<Long, PropertyFilter> savedSearches) {
+        lock.writeLock().lock();
+        try {
+            filters.clear();
+            keysById.clear();
+            buckets.clear();
+            savedSearches.forEach(this::insert);
+            log.info("Saved search index built with {} searches in {} buckets", filters.size(), buckets.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(Long savedSearchId, PropertyFilter filter) {
+        lock.writeLock().lock();
+        try {
+            remove(savedSearchId);
+            insert(savedSearchId, filter);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long savedSearchId) {
+        lock.writeLock().lock();
+        try {
+            remove(savedSearchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Ids of the saved searches whose criteria {@code doc} satisfies. */
+    public Set<Long> matching(PropertyDocument doc) {
+        Set<String> types = Set.of(ANY, key(doc.getPropertyType()));
+        Set<String> grams = trigrams(doc.getCity(), doc.getAddress(), doc.getZip());
+        grams.add(ANY);
+        String band = Integer.toString(band(doc.getPrice()));
+
+        Set<Long> result = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            for (String type : types) {
+                for (String gram : grams) {
+                    Set<Long> ids = buckets.get(type + "|" + gram + "|" + band);
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (Long id : ids) {
+                        if (!result.contains(id) && matches(filters.get(id), doc)) {
+                            result.add(id);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public Set<Long> ids() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(filters.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return filters.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean matches(PropertyFilter filter, PropertyDocument doc) {
+        return filter.matches(doc) && filter.matchesSearch(doc);
+    }
+
+    private void insert(Long id, PropertyFilter filter) {
+        String type = filter.getPropertyType() != null ? key(filter.getPropertyType()) : ANY;
+        String gram = filter.getLocation() != null && filter.getLocation().length() >= GRAM
+            ? filter.getLocation().substring(0, GRAM)
+            : ANY;
+        int lowBand = band(filter.getMinPrice());
+        int highBand = filter.getMaxPrice() != null ? band(filter.getMaxPrice()) : MAX_BAND;
+
+        List<String> keys = new ArrayList<>();
+        for (int b = lowBand; b <= highBand; b++) {
+            String bucketKey = type + "|" + gram + "|" + b;
+            buckets.computeIfAbsent(bucketKey, k -> new HashSet<>()).add(id);
+            keys.add(bucketKey);
+        }
+        filters.put(id, filter);
+        keysById.put(id, keys);
+    }
+
+    private void remove(Long id) {
+        filters.remove(id);
+        List<String> keys = keysById.remove(id);
+        if (keys == null) {
+            return;
+        }
+        for (String bucketKey : keys) {
+            Set<Long> ids = buckets.get(bucketKey);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    buckets.remove(bucketKey);
+                }
+            }
+        }
+    }
+
+    private static int band(BigDecimal price) {
+        if (price == null || price.doubleValue() < BAND_BASE) {
+            return 0;
+        }
+        int band = (int) Math.floor(Math.log(price.doubleValue() / BAND_BASE) / Math.log(2)) + 1;
+        return Math.min(band, MAX_BAND);
+    }
+
+    // Location matching is a lower-cased substring test, so trigrams are taken from the lower-cased text
+    private static Set<String> trigrams(String... values) {
+        Set<String> grams = new HashSet<>();
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            String text = value.toLowerCase(Locale.ROOT);
+            for (int i = 0; i + GRAM <= text.length(); i++) {
+                grams.add(text.substring(i, i + GRAM));
+            }
+        }
+        return grams;
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,9 @@
+package com.soham.realty.service;
+
+import com.soham.realty.dto.response.CacheStatsResponse;
+
+import java.util.List;
+
+public interface CacheStatsService {
+ List<CacheStatsResponse> getCacheStats();
+}
@@ -0,0 +1,13 @@
+package com.soham.realty.service;
+
+import com.soham.realty.search.GeoPoint;
+
+import java.util.Optional;
+
+public interface GeocodingService {
+    /**
+     * Resolves a postal address to coordinates. Implementations return empty when the address
+     * cannot be resolved; callers must treat coordinates as optional.
+     */
+    Optional<GeoPoint> geocode(String address, String city, String state, String zip);
+}
@@ -0,0 +1,14 @@
+package com.soham.realty.service;
+
+import com.soham.realty.dto.response.PropertyResponse;
+
+import java.util.List;
+
+/**
+ * Uncached loaders behind the featured and property detail caches. The caches call these on a
+ * miss and again when an entry is refreshed in the background.
+ */
+public interface PropertyCacheLoader {
+ List<PropertyResponse> loadFeaturedProperties();
+ PropertyResponse loadPropertyDetails(Long id);
+}
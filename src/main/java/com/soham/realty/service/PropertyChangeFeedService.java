@@ -0,0 +1,8 @@
+package com.soham.realty.service;
+
+import com.soham.realty.dto.response.PropertyChangesResponse;
+
+public interface PropertyChangeFeedService {
+ // A null or blank token asks for the current position, with resyncRequired set
+ PropertyChangesResponse getChanges(String since, int limit);
+}
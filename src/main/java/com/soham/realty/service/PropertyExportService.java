@@ -0,0 +1,18 @@
+package com.soham.realty.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface PropertyExportService {
+
+    enum Format { CSV, NDJSON }
+
+    /**
+     * Writes every matching listing with its image URLs to {@code output}, in id order. Rows are
+     * read through a forward-only scroll, so memory use does not grow with the catalog.
+     *
+     * @return the number of listings written
+     */
+    long exportProperties(OutputStream output, Format format, LocalDateTime updatedSince, String status) throws IOException;
+}
@@ -0,0 +1,17 @@
+package com.soham.realty.service;
+
+import com.soham.realty.dto.response.PropertyImportResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface PropertyImportService {
+
+    enum Format { CSV, NDJSON }
+
+    /**
+     * Streams listings from {@code input}, validating each row and inserting valid ones in JDBC
+     * batches. Invalid rows are reported and skipped; they never abort the import.
+     */
+    PropertyImportResponse importProperties(InputStream input, Format format) throws IOException;
+}
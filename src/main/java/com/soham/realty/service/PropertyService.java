@@ -2,19 +2,37 @@ package com.soham.realty.service;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import com.soham.realty.dto.request.PropertyBulkRequest;
 import com.soham.realty.dto.request.PropertyRequest;
 import com.soham.realty.dto.request.SearchRequest;
+import com.soham.realty.dto.response.CursorPageResponse;
 import com.soham.realty.dto.response.PaginatedResponse;
+import com.soham.realty.dto.response.PropertyBulkResponse;
+import com.soham.realty.dto.response.PropertyFacetsResponse;
 import com.soham.realty.dto.response.PropertyResponse;
+import com.soham.realty.dto.response.SuggestionResponse;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface PropertyService {
  PaginatedResponse<PropertyResponse> getAllProperties(SearchRequest searchRequest);
+ CursorPageResponse<PropertyResponse> getPropertiesByCursor(SearchRequest searchRequest);
+ PropertyFacetsResponse getFacets(SearchRequest searchRequest);
+ List<SuggestionResponse> suggest(String query, int limit);
  List<PropertyResponse> getFeaturedProperties();
  PropertyResponse getPropertyById(Long id);
+ List<PropertyResponse> getSimilarProperties(Long id, int limit);
+ List<PropertyResponse> getPropertiesByIds(List<Long> ids);
  PropertyResponse createProperty(PropertyRequest request);
  PropertyResponse updateProperty(Long id, PropertyRequest request);
  void deleteProperty(Long id);
  List<String> uploadPropertyImages(Long propertyId, MultipartFile[] files);
+ PropertyBulkResponse bulkUpdate(PropertyBulkRequest request);
+ // Strong ETags answered from the in-memory catalog; empty until it has loaded
+ Optional<String> getPropertyETag(Long id);
+ Optional<String> getCatalogETag(String view);
+ // ETags of bodies that were actually built, which may trail the catalog while a cache refreshes
+ String getETag(PropertyResponse property);
+ String getFeaturedETag(List<PropertyResponse> featured);
 }
@@ -0,0 +1,11 @@
+package com.soham.realty.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+public interface PropertyStreamService {
+ // Empty when the instance already holds its maximum number of streams
+ Optional<SseEmitter> subscribe(String lastEventId);
+ int getSubscriberCount();
+}
@@ -0,0 +1,13 @@
+package com.soham.realty.service;
+
+import com.soham.realty.dto.request.SavedSearchRequest;
+import com.soham.realty.dto.response.PaginatedResponse;
+import com.soham.realty.dto.response.SavedSearchMatchResponse;
+import com.soham.realty.dto.response.SavedSearchResponse;
+
+public interface SavedSearchService {
+    SavedSearchResponse createSavedSearch(SavedSearchRequest request);
+    SavedSearchResponse getSavedSearch(String accessToken);
+    void deleteSavedSearch(String accessToken);
+    PaginatedResponse<SavedSearchMatchResponse> getMatches(String accessToken, Integer page, Integer limit);
+}
@@ -0,0 +1,11 @@
+package com.soham.realty.service;
+
+import com.soham.realty.dto.response.WarmupReportResponse;
+
+import java.util.Optional;
+
+public interface WarmupService {
+ WarmupReportResponse warmUp();
+ // Empty until a warm-up has run
+ Optional<WarmupReportResponse> getLastReport();
+}
@@ -0,0 +1,58 @@
+package com.soham.realty.service.impl;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import com.soham.realty.config.CacheConfig;
+import com.soham.realty.config.HibernateCacheConfig;
+import com.soham.realty.dto.response.CacheStatsResponse;
+import com.soham.realty.service.CacheStatsService;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatsServiceImpl implements CacheStatsService {
+
+    private final CacheManager cacheManager;
+    private final CacheConfig cacheConfig;
+    private final javax.cache.CacheManager hibernateCacheManager;
+    private final HibernateCacheConfig hibernateCacheConfig;
+
+    @Override
+    public List<CacheStatsResponse> getCacheStats() {
+        Map<String, String> policies = cacheConfig.policies();
+        List<CacheStatsResponse> result = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (!(cache instanceof CaffeineCache caffeineCache)) {
+                continue;
+            }
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+            CacheStats stats = nativeCache.stats();
+            result.add(new CacheStatsResponse(name, policies.get(name), nativeCache.estimatedSize(),
+                stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount()));
+        }
+        // Hibernate second-level regions are listed under their own prefix
+        hibernateCacheConfig.regionPolicies().forEach((region, policy) -> {
+            javax.cache.Cache<Object, Object> cache = hibernateCacheManager.getCache(region);
+            if (cache == null) {
+                return;
+            }
+            com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache = cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+            CacheStats stats = nativeCache.stats();
+            result.add(new CacheStatsResponse("hibernate:" + region, policy.spec(), nativeCache.estimatedSize(),
+                stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount()));
+        });
+        result.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return result;
+    }
+}
@@ -0,0 +1,26 @@
+package com.soham.realty.service.impl;
+
+import com.soham.realty.search.GeoPoint;
+import com.soham.realty.service.GeocodingService;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Default geocoder used until a provider is configured: listings without explicit coordinates
+ * stay unlocated and are simply left out of map searches.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.geocoding.provider", havingValue = "none", matchIfMissing = true)
+public class NoOpGeocodingServiceImpl implements GeocodingService {
+
+    @Override
+    public Optional<GeoPoint> geocode(String address, String city, String state, String zip) {
+        log.debug("No geocoding provider configured, leaving {}, {} unlocated", address, city);
+        return Optional.empty();
+    }
+}
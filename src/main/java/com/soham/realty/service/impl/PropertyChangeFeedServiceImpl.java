@@ -0,0 +1,147 @@
+package com.soham.realty.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.soham.realty.dto.response.PropertyChangesResponse;
+import com.soham.realty.dto.response.PropertyResponse;
+import com.soham.realty.exception.BadRequestException;
+import com.soham.realty.service.PropertyChangeFeedService;
+import com.soham.realty.service.PropertyService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Change feed over {@code property_change_log}. The token is the id of the last log row a client has
+ * seen; each page returns the current state of the listings changed after it and tombstones for the
+ * ones that no longer exist, read in one snapshot with the log so the two agree.
+ * <p>
+ * Log ids are handed out just before commit, so for a moment a reader can see id n+1 while n is
+ * still uncommitted. A page stops at a missing id until the row after it is {@link #SETTLE_MS} old;
+ * a gap that old is a rolled back write and is skipped. The feed can therefore trail a write by up
+ * to that long, but never passes one.
+ */
+@Service
+@RequiredArgsConstructor
+public class PropertyChangeFeedServiceImpl implements PropertyChangeFeedService {
+
+    private static final String TOKEN_VERSION = "v1";
+    private static final int MAX_LIMIT = 500;
+    private static final long SETTLE_MS = 5_000;
+
+    private static final String PAGE_SQL =
+        "SELECT id, property_id, deleted, created_at FROM property_change_log WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final RowMapper<LogRow> ROW_MAPPER = (rs, rowNum) -> new LogRow(rs.getLong("id"),
+        rs.getLong("property_id"), rs.getBoolean("deleted"), rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PropertyService propertyService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PropertyChangesResponse getChanges(String since, int limit) {
+        Map<String, Object> bounds = jdbcTemplate.queryForMap(
+            "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM property_change_log");
+        Long oldest = bounds.get("min_id") != null ? ((Number) bounds.get("min_id")).longValue() : null;
+        long newest = bounds.get("max_id") != null ? ((Number) bounds.get("max_id")).longValue() : 0;
+
+        if (since == null || since.isBlank()) {
+            return resync(newest);
+        }
+        long position = decodeToken(since);
+        // Rows after the token were already cleaned up, or the token belongs to another database
+        boolean trimmed = oldest == null ? position > 0 : position < oldest - 1;
+        if (trimmed || position > newest) {
+            return resync(newest);
+        }
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        List<LogRow> rows = jdbcTemplate.query(PAGE_SQL, ROW_MAPPER, position, pageSize + 1);
+        LocalDateTime settledBefore = LocalDateTime.now().minusNanos(SETTLE_MS * 1_000_000);
+        List<LogRow> page = new ArrayList<>();
+        boolean waitingOnGap = false;
+        long expected = position + 1;
+        for (LogRow row : rows) {
+            if (page.size() == pageSize) {
+                break;
+            }
+            if (row.id != expected && row.createdAt.isAfter(settledBefore)) {
+                waitingOnGap = true;
+                break;
+            }
+            page.add(row);
+            expected = row.id + 1;
+        }
+        boolean hasMore = !waitingOnGap && rows.size() > page.size();
+        long next = page.isEmpty() ? position : page.get(page.size() - 1).id;
+
+        // Latest row per listing, in log order
+        Map<Long, LogRow> latest = new LinkedHashMap<>();
+        for (LogRow row : page) {
+            latest.remove(row.propertyId);
+            latest.put(row.propertyId, row);
+        }
+        List<PropertyResponse> changed = propertyService.getPropertiesByIds(new ArrayList<>(latest.keySet()));
+        Set<Long> present = changed.stream().map(PropertyResponse::getId).collect(Collectors.toSet());
+        // A deletion marker, or a listing already gone because its marker falls on a later page (it is
+        // reported again there, with the deletion time)
+        List<PropertyChangesResponse.Tombstone> deleted = latest.values().stream()
+            .filter(row -> row.deleted || !present.contains(row.propertyId))
+            .map(row -> new PropertyChangesResponse.Tombstone(row.propertyId, row.createdAt))
+            .collect(Collectors.toList());
+
+        return new PropertyChangesResponse(changed, deleted, encodeToken(next), hasMore, false);
+    }
+
+    private static PropertyChangesResponse resync(long newest) {
+        return new PropertyChangesResponse(List.of(), List.of(), encodeToken(newest), false, true);
+    }
+
+    private static String encodeToken(long position) {
+        String raw = TOKEN_VERSION + "|" + position;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decodeToken(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2 || !TOKEN_VERSION.equals(parts[0])) {
+                throw new BadRequestException("Invalid change token");
+            }
+            long position = Long.parseLong(parts[1]);
+            if (position < 0) {
+                throw new BadRequestException("Invalid change token");
+            }
+            return position;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid change token");
+        }
+    }
+
+    private static final class LogRow {
+        private final long id;
+        private final long propertyId;
+        private final boolean deleted;
+        private final LocalDateTime createdAt;
+
+        private LogRow(long id, long propertyId, boolean deleted, LocalDateTime createdAt) {
+            this.id = id;
+            this.propertyId = propertyId;
+            this.deleted = deleted;
+            this.createdAt = createdAt;
+        }
+    }
+}
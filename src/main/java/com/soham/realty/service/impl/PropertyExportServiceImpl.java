@@ -0,0 +1,195 @@
+package com.soham.realty.service.impl;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.soham.realty.dto.response.PropertyResponse;
+import com.soham.realty.entity.Property;
+import com.soham.realty.repository.PropertyImageRepository;
+import com.soham.realty.repository.PropertyRepository;
+import com.soham.realty.service.PropertyExportService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PropertyExportServiceImpl implements PropertyExportService {
+
+    // Rows per image lookup and persistence-context flush
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String[] CSV_COLUMNS = {
+        "id", "title", "price", "description", "address", "city", "state", "zip", "bedrooms", "bathrooms",
+        "squareFootage", "propertyType", "status", "featured", "videoLink", "latitude", "longitude",
+        "images", "createdAt", "updatedAt"
+    };
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyImageRepository propertyImageRepository;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportProperties(OutputStream output, Format format, LocalDateTime updatedSince, String status) throws IOException {
+        long start = System.currentTimeMillis();
+        long written = 0;
+
+        try (RowWriter writer = format == Format.CSV ? csvWriter(output) : ndjsonWriter(output);
+             Stream<Property> rows = propertyRepository.streamForExport(updatedSince, status)) {
+            Iterator<Property> iterator = rows.iterator();
+            List<Property> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    written += writeChunk(chunk, writer);
+                    chunk.clear();
+                    // Detach what was just written so the persistence context stays flat
+                    entityManager.clear();
+                }
+            }
+        }
+
+        log.info("Exported {} properties as {} in {} ms", written, format, System.currentTimeMillis() - start);
+        return written;
+    }
+
+    // One image query per chunk rather than one lazy load per listing
+    private int writeChunk(List<Property> chunk, RowWriter writer) throws IOException {
+        List<Long> ids = chunk.stream().map(Property::getId).collect(Collectors.toList());
+        Map<Long, List<String>> imagesByProperty = new HashMap<>();
+        for (PropertyImageRepository.PropertyImageUrl row : propertyImageRepository.findImageUrlsByPropertyIds(ids)) {
+            imagesByProperty.computeIfAbsent(row.getPropertyId(), k -> new ArrayList<>()).add(row.getImageUrl());
+        }
+        for (Property property : chunk) {
+            writer.write(toRow(property, imagesByProperty.getOrDefault(property.getId(), new ArrayList<>())));
+        }
+        writer.flush();
+        return chunk.size();
+    }
+
+    private static PropertyResponse toRow(Property property, List<String> images) {
+        PropertyResponse row = new PropertyResponse();
+        row.setId(property.getId());
+        row.setTitle(property.getTitle());
+        row.setPrice(property.getPrice());
+        row.setDescription(property.getDescription());
+        row.setAddress(property.getAddress());
+        row.setCity(property.getCity());
+        row.setState(property.getState());
+        row.setZip(property.getZip());
+        row.setBedrooms(property.getBedrooms());
+        row.setBathrooms(property.getBathrooms());
+        row.setSquareFootage(property.getSquareFootage());
+        row.setPropertyType(property.getPropertyType());
+        row.setStatus(property.getStatus());
+        row.setFeatured(property.getFeatured());
+        row.setVideoLink(property.getVideoLink());
+        row.setLatitude(property.getLatitude());
+        row.setLongitude(property.getLongitude());
+        row.setImages(images);
+        row.setCreatedAt(property.getCreatedAt());
+        row.setUpdatedAt(property.getUpdatedAt());
+        return row;
+    }
+
+    private RowWriter ndjsonWriter(OutputStream output) throws IOException {
+        // The caller owns the response stream; only flush it. Root values are newline-separated.
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .setRootValueSeparator(new SerializedString("\n"));
+        ObjectWriter rowWriter = objectMapper.writerFor(PropertyResponse.class);
+        return new RowWriter() {
+            private boolean empty = true;
+
+            @Override
+            public void write(PropertyResponse row) throws IOException {
+                rowWriter.writeValue(generator, row);
+                empty = false;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                generator.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (!empty) {
+                    generator.writeRaw('\n');
+                }
+                generator.close();
+            }
+        };
+    }
+
+    private RowWriter csvWriter(OutputStream output) throws IOException {
+        CsvMapper csvMapper = new CsvMapper();
+        CsvSchema.Builder schema = CsvSchema.builder();
+        for (String column : CSV_COLUMNS) {
+            schema.addColumn(column);
+        }
+        JsonGenerator generator = csvMapper.getFactory().createGenerator(output)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        SequenceWriter sequence = csvMapper.writer(schema.build().withHeader()).writeValues(generator);
+        return new RowWriter() {
+            @Override
+            public void write(PropertyResponse row) throws IOException {
+                sequence.write(new Object[] {
+                    row.getId(), row.getTitle(), row.getPrice(), row.getDescription(), row.getAddress(),
+                    row.getCity(), row.getState(), row.getZip(), row.getBedrooms(), row.getBathrooms(),
+                    row.getSquareFootage(), row.getPropertyType(), row.getStatus(), row.getFeatured(),
+                    row.getVideoLink(), row.getLatitude(), row.getLongitude(),
+                    // Image URLs never contain '|', so a single cell stays easy to split
+                    String.join("|", row.getImages()), Objects.toString(row.getCreatedAt(), null),
+                    Objects.toString(row.getUpdatedAt(), null)
+                });
+            }
+
+            @Override
+            public void flush() throws IOException {
+                sequence.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                sequence.close();
+                generator.close();
+            }
+        };
+    }
+
+    private interface RowWriter extends AutoCloseable {
+        void write(PropertyResponse row) throws IOException;
+
+        void flush() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+}
@@ -0,0 +1,276 @@
+package com.soham.realty.service.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.soham.realty.dto.request.PropertyRequest;
+import com.soham.realty.dto.response.PropertyImportResponse;
+import com.soham.realty.entity.Property;
+import com.soham.realty.event.PropertyImportCompletedEvent;
+import com.soham.realty.event.PropertyImportEvent;
+import com.soham.realty.search.GeoPoint;
+import com.soham.realty.search.PropertyDocument;
+import com.soham.realty.service.GeocodingService;
+import com.soham.realty.service.PropertyImportService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PropertyImportServiceImpl implements PropertyImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final GeocodingService geocodingService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Rows per transaction. With MySQL, add rewriteBatchedStatements=true to the JDBC URL so each
+    // JDBC batch is sent as one multi-row INSERT
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public PropertyImportResponse importProperties(InputStream input, Format format) throws IOException {
+        long start = System.currentTimeMillis();
+        Report report = new Report();
+        List<Property> batch = new ArrayList<>(batchSize);
+        List<Long> batchRows = new ArrayList<>(batchSize);
+
+        RowReader reader = format == Format.CSV ? csvReader(input) : ndjsonReader(input);
+        try (reader) {
+            long row = 0;
+            while (true) {
+                PropertyRequest request;
+                try {
+                    request = reader.next();
+                } catch (RowFormatException e) {
+                    report.error(++row, "Malformed row: " + e.getOriginalMessage());
+                    continue;
+                } catch (JsonProcessingException e) {
+                    // The stream itself is broken (e.g. an unterminated quote); nothing after it is trustworthy
+                    report.error(++row, "Unreadable input, import stopped: " + e.getOriginalMessage());
+                    break;
+                }
+                if (request == null) {
+                    break;
+                }
+                row++;
+
+                Set<ConstraintViolation<PropertyRequest>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    report.error(row, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                    continue;
+                }
+
+                batch.add(toEntity(request));
+                batchRows.add(row);
+                if (batch.size() >= batchSize) {
+                    flush(batch, batchRows, report);
+                }
+            }
+            flush(batch, batchRows, report);
+            report.totalRows = row;
+        }
+        if (report.imported > 0) {
+            eventPublisher.publishEvent(new PropertyImportCompletedEvent(report.imported));
+        }
+
+        log.info("Imported {} of {} rows ({} failed) in {} ms",
+            report.imported, report.totalRows, report.failed, System.currentTimeMillis() - start);
+
+        return new PropertyImportResponse(report.totalRows, report.imported, report.failed,
+            report.errors, report.failed > report.errors.size());
+    }
+
+    // Each batch commits on its own, so a bad batch only costs its own rows. Ids come from the pooled
+    // generator, so Hibernate sends the rows as JDBC batches of hibernate.jdbc.batch_size. The batch
+    // event is published inside the transaction, so its change log rows commit or roll back with it;
+    // caches and streams are told once, after the last batch
+    private void flush(List<Property> batch, List<Long> batchRows, Report report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batch.forEach(entityManager::persist);
+                entityManager.flush();
+                entityManager.clear();
+                eventPublisher.publishEvent(new PropertyImportEvent(batch.stream()
+                    .map(PropertyDocument::from)
+                    .collect(Collectors.toList())));
+            });
+            report.imported += batch.size();
+        } catch (DataAccessException | PersistenceException e) {
+            String message = "Database error: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            log.warn("Import batch of {} rows failed: {}", batch.size(), message);
+            batchRows.forEach(row -> report.error(row, message));
+        } finally {
+            batch.clear();
+            batchRows.clear();
+        }
+    }
+
+    private Property toEntity(PropertyRequest request) {
+        Property property = new Property();
+        property.setTitle(request.getTitle());
+        property.setPrice(request.getPrice());
+        property.setDescription(request.getDescription());
+        property.setAddress(request.getAddress());
+        property.setCity(request.getCity());
+        property.setState(request.getState());
+        property.setZip(request.getZip());
+        property.setBedrooms(request.getBedrooms() != null ? request.getBedrooms() : 0);
+        property.setBathrooms(request.getBathrooms() != null ? request.getBathrooms() : BigDecimal.ZERO);
+        property.setSquareFootage(request.getSquareFootage() != null ? request.getSquareFootage() : 0);
+        property.setPropertyType(request.getPropertyType());
+        property.setStatus(request.getStatus() != null ? request.getStatus() : "Available");
+        property.setVideoLink(request.getVideoLink());
+        property.setFeatured(Boolean.TRUE.equals(request.getFeatured()));
+        property.setImageUrl("");
+
+        if (request.getLatitude() != null && request.getLongitude() != null) {
+            property.setLatitude(request.getLatitude());
+            property.setLongitude(request.getLongitude());
+        } else {
+            Optional<GeoPoint> point = geocodingService.geocode(
+                request.getAddress(), request.getCity(), request.getState(), request.getZip());
+            property.setLatitude(point.map(GeoPoint::getLatitude).orElse(null));
+            property.setLongitude(point.map(GeoPoint::getLongitude).orElse(null));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        property.setCreatedAt(now);
+        property.setUpdatedAt(now);
+        return property;
+    }
+
+    private RowReader csvReader(InputStream input) throws IOException {
+        CsvMapper csvMapper = new CsvMapper();
+        CsvSchema schema = CsvSchema.emptySchema().withHeader();
+        MappingIterator<Map<String, String>> rows = csvMapper.readerFor(Map.class).with(schema)
+            .readValues(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return new RowReader() {
+            @Override
+            public PropertyRequest next() throws IOException {
+                if (!rows.hasNextValue()) {
+                    return null;
+                }
+                Map<String, String> raw = rows.nextValue();
+                // Blank cells fall back to the request defaults instead of binding as empty strings
+                Map<String, String> values = new LinkedHashMap<>();
+                raw.forEach((column, value) -> {
+                    if (value != null && !value.isBlank()) {
+                        values.put(column.trim(), value.trim());
+                    }
+                });
+                try {
+                    return objectMapper.convertValue(values, PropertyRequest.class);
+                } catch (IllegalArgumentException e) {
+                    // Keep the first line; the rest is Jackson's source location noise
+                    throw new RowFormatException(e.getMessage().split("\n", 2)[0]);
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                rows.close();
+            }
+        };
+    }
+
+    private RowReader ndjsonReader(InputStream input) {
+        BufferedReader lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return new RowReader() {
+            @Override
+            public PropertyRequest next() throws IOException {
+                String line;
+                do {
+                    line = lines.readLine();
+                    if (line == null) {
+                        return null;
+                    }
+                } while (line.isBlank());
+                try {
+                    return objectMapper.readValue(line, PropertyRequest.class);
+                } catch (JsonProcessingException e) {
+                    throw new RowFormatException(e.getOriginalMessage());
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                lines.close();
+            }
+        };
+    }
+
+    /** Pull-based row source; returns null at the end of input. */
+    private interface RowReader extends AutoCloseable {
+        PropertyRequest next() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static class RowFormatException extends JsonProcessingException {
+        private static final long serialVersionUID = 1L;
+
+        RowFormatException(String message) {
+            super(message);
+        }
+    }
+
+    private static class Report {
+        private long totalRows;
+        private long imported;
+        private long failed;
+        private final List<PropertyImportResponse.RowError> errors = new ArrayList<>();
+
+        void error(long row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new PropertyImportResponse.RowError(row, message));
+            }
+        }
+    }
+}
@@ -2,45 +2,101 @@ package com.soham.realty.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.soham.realty.config.CacheConfig;
+import com.soham.realty.dto.request.PropertyBulkRequest;
 import com.soham.realty.dto.request.PropertyRequest;
 import com.soham.realty.dto.request.SearchRequest;
+import com.soham.realty.dto.response.CursorPageResponse;
 import com.soham.realty.dto.response.PaginatedResponse;
+import com.soham.realty.dto.response.PropertyBulkResponse;
+import com.soham.realty.dto.response.PropertyFacetsResponse;
 import com.soham.realty.dto.response.PropertyResponse;
+import com.soham.realty.dto.response.SparsePropertyResponse;
+import com.soham.realty.dto.response.SuggestionResponse;
 import com.soham.realty.entity.Property;
+import com.soham.realty.event.PropertyBulkChangeEvent;
+import com.soham.realty.event.PropertyChangeEvent;
 import com.soham.realty.entity.PropertyImage;
 import com.soham.realty.exception.BadRequestException;
 import com.soham.realty.exception.ResourceNotFoundException;
+import com.soham.realty.repository.ContactRepository;
 import com.soham.realty.repository.PropertyImageRepository;
 import com.soham.realty.repository.PropertyRepository;
 import com.soham.realty.service.FileStorageService;
+import com.soham.realty.service.GeocodingService;
+import com.soham.realty.search.ColumnarPropertyEngine;
+import com.soham.realty.search.GeoPoint;
+import com.soham.realty.search.PropertyCatalog;
+import com.soham.realty.search.PropertyCountCache;
+import com.soham.realty.search.PropertyCursor;
+import com.soham.realty.search.PropertyDocument;
+import com.soham.realty.search.PropertyFacetCounter;
+import com.soham.realty.search.PropertyFieldSet;
+import com.soham.realty.search.PropertyFilter;
+import com.soham.realty.search.PropertyGeoIndex;
+import com.soham.realty.search.PropertySearchIndex;
+import com.soham.realty.search.PropertySearchResultCache;
+import com.soham.realty.search.PropertySimilarityIndex;
+import com.soham.realty.search.PropertySort;
+import com.soham.realty.search.PropertySuggestIndex;
+import com.soham.realty.service.PropertyCacheLoader;
 import com.soham.realty.service.PropertyService;
 
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
-public class PropertyServiceImpl implements PropertyService {
+public class PropertyServiceImpl implements PropertyService, PropertyCacheLoader {
 
     private final PropertyRepository propertyRepository;
     private final PropertyImageRepository propertyImageRepository;
+    private final ContactRepository contactRepository;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PropertyCatalog propertyCatalog;
+    private final PropertySearchIndex propertySearchIndex;
+    private final PropertyCountCache propertyCountCache;
+    private final PropertyFacetCounter propertyFacetCounter;
+    private final ObjectProvider<ColumnarPropertyEngine> columnarEngineProvider;
+    private final PropertySearchResultCache propertySearchResultCache;
+    private final PropertySuggestIndex propertySuggestIndex;
+    private final PropertyGeoIndex propertyGeoIndex;
+    private final GeocodingService geocodingService;
+    private final PropertySimilarityIndex propertySimilarityIndex;
 
     @Value("${spring.profiles.active:dev}")
     private String activeProfile;
@@ -49,56 +105,201 @@ public class PropertyServiceImpl implements PropertyService {
     private String backendUrl;
 
     private static final int MAX_IMAGES_PER_PROPERTY = 5;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final int MAX_SIMILAR = 20;
+    private static final int MAX_BULK_TARGETS = 5000;
+    // Keeps IN lists of the set-based statements to a reasonable size
+    private static final int BULK_CHUNK_SIZE = 1000;
 
     @Override
+    // No surrounding transaction: callers waiting on a coalesced load must not hold a pooled connection
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PaginatedResponse<PropertyResponse> getAllProperties(SearchRequest searchRequest) {
         log.debug("Fetching properties with filters: {}", searchRequest);
 
-        Specification<Property> spec = buildSpecification(searchRequest);
-        Sort sort = buildSort(searchRequest.getSortBy());
+        PropertyFilter filter = PropertyFilter.from(searchRequest);
+        PropertyFieldSet fields = PropertyFieldSet.from(searchRequest);
+        return propertySearchResultCache.get(searchRequest, filter, () -> loadProperties(searchRequest, filter, fields));
+    }
+
+    private PaginatedResponse<PropertyResponse> loadProperties(SearchRequest searchRequest, PropertyFilter filter,
+                                                               PropertyFieldSet fields) {
+        PropertySort sort = resolveSort(searchRequest, filter);
+
+        // Text and map searches are answered by the in-memory indexes once the catalog has loaded
+        if (usesInMemoryIndexes(filter, sort)) {
+            return searchInMemory(filter, sort, fields, searchRequest.getPage(), searchRequest.getLimit());
+        }
+
+        // Optional columnar engine (app.search.engine=columnar) answers plain filters without the database
+        ColumnarPropertyEngine columnarEngine = columnarEngineProvider.getIfAvailable();
+        if (columnarEngine != null && propertyCatalog.isReady()) {
+            return queryColumnar(columnarEngine, filter, sort, fields, searchRequest.getPage(), searchRequest.getLimit());
+        }
+
+        Specification<Property> spec = buildSpecification(filter);
         Pageable pageable = PageRequest.of(
             searchRequest.getPage() - 1,
             searchRequest.getLimit(),
-            sort
+            buildSort(sort)
         );
 
-        Page<Property> propertyPage = propertyRepository.findAll(spec, pageable);
+        // Fetch the page as a slice (no COUNT); the total comes from the count cache below
+        long countGeneration = propertyCountCache.currentGeneration();
+        long offset = pageable.getOffset();
+        List<PropertyResponse> propertyResponses;
+        boolean hasNext;
+        if (fields.isFull()) {
+            Slice<Property> propertySlice = propertyRepository.findBy(spec, q -> q.slice(pageable));
+            hasNext = propertySlice.hasNext();
+            propertyResponses = mapToPropertyResponsesLight(propertySlice.getContent());
+        } else {
+            // Sparse fieldset: select only the requested columns, one extra row stands in for the slice probe
+            List<Tuple> rows = propertyRepository.findColumns(spec, fields.columns(), pageable.getSort(),
+                offset, pageable.getPageSize() + 1);
+            hasNext = rows.size() > pageable.getPageSize();
+            propertyResponses = mapToProjectedResponses(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, fields);
+        }
+        int rowCount = propertyResponses.size();
 
-        List<PropertyResponse> propertyResponses = propertyPage.getContent().stream()
-            .map(this::mapToPropertyResponseLight)
-            .collect(Collectors.toList());
+        long total;
+        boolean approximate = false;
+        Long cached = propertyCountCache.get(filter);
+        if (!hasNext && (rowCount > 0 || offset == 0)) {
+            // Last page: the total is known without counting
+            total = offset + rowCount;
+            propertyCountCache.putExact(filter, total, countGeneration);
+        } else if (cached != null) {
+            total = cached;
+        } else {
+            Long estimate = Boolean.TRUE.equals(searchRequest.getApproximateTotal())
+                ? propertyCountCache.estimate(filter, () -> propertyRepository.count(spec))
+                : null;
+            if (estimate != null) {
+                total = Math.max(estimate, offset + rowCount + (hasNext ? 1 : 0));
+                approximate = true;
+            } else {
+                total = propertyCountCache.getOrCount(filter, () -> propertyRepository.count(spec));
+            }
+        }
 
         return PaginatedResponse.of(
             propertyResponses,
-            propertyPage.getTotalElements(),
+            total,
             searchRequest.getPage(),
-            searchRequest.getLimit()
+            searchRequest.getLimit(),
+            approximate
         );
     }
 
     @Override
-    @Cacheable(value = "featuredProperties", unless = "#result.isEmpty()")
+    public CursorPageResponse<PropertyResponse> getPropertiesByCursor(SearchRequest searchRequest) {
+        log.debug("Fetching properties by cursor with filters: {}", searchRequest);
+
+        PropertyFilter filter = PropertyFilter.from(searchRequest);
+        PropertyFieldSet fields = PropertyFieldSet.from(searchRequest);
+        PropertySort sort = resolveSort(searchRequest, filter);
+        boolean inMemory = usesInMemoryIndexes(filter, sort);
+        if (!inMemory && (sort == PropertySort.RELEVANCE || sort == PropertySort.DISTANCE)) {
+            sort = PropertySort.NEWEST;
+        }
+
+        PropertyCursor cursor = null;
+        if (searchRequest.getCursor() != null && !searchRequest.getCursor().isBlank()) {
+            cursor = PropertyCursor.decode(searchRequest.getCursor(), sort);
+        }
+        int limit = searchRequest.getLimit();
+
+        if (inMemory) {
+            return scrollInMemory(filter, sort, fields, cursor, limit);
+        }
+
+        // Keyset seek: no OFFSET and no count query, one extra row tells us whether more pages exist
+        Specification<Property> spec = buildSpecification(filter);
+        if (cursor != null) {
+            spec = spec.and(buildKeysetSpecification(cursor));
+        }
+        Sort order = buildSort(sort);
+        if (!fields.isFull()) {
+            return scrollProjected(spec, order, sort, fields, limit);
+        }
+        List<Property> rows = propertyRepository.findBy(spec, q -> q.sortBy(order).limit(limit + 1).all());
+
+        boolean hasMore = rows.size() > limit;
+        List<Property> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore
+            ? PropertyCursor.after(sort, PropertyDocument.from(pageRows.get(pageRows.size() - 1)), 0).encode()
+            : null;
+
+        return CursorPageResponse.of(mapToPropertyResponsesLight(pageRows), limit, nextCursor);
+    }
+
+    @Override
+    public PropertyFacetsResponse getFacets(SearchRequest searchRequest) {
+        PropertyFilter filter = PropertyFilter.from(searchRequest);
+        Collection<Long> candidates = filter.hasSearch() || filter.hasGeoFilter()
+            ? candidateScores(filter).keySet()
+            : null;
+        return propertyFacetCounter.count(filter, candidates);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<SuggestionResponse> suggest(String query, int limit) {
+        return propertySuggestIndex.suggest(query, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS));
+    }
+
+    // sync: concurrent misses for the same key wait on a single load instead of each querying
+    @Override
+    @Cacheable(value = CacheConfig.FEATURED_PROPERTIES, key = "'" + CacheConfig.FEATURED_KEY + "'", sync = true)
     public List<PropertyResponse> getFeaturedProperties() {
+        return loadFeaturedProperties();
+    }
+
+    @Override
+    @Cacheable(value = CacheConfig.PROPERTY_DETAILS, key = "#id", sync = true)
+    public PropertyResponse getPropertyById(Long id) {
+        return loadPropertyDetails(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PropertyResponse> loadFeaturedProperties() {
         log.debug("Fetching featured properties from database");
         List<Property> featured = propertyRepository.findFeaturedPropertiesByStatus("Available");
-        List<PropertyResponse> result = featured.stream()
-            .map(this::mapToPropertyResponse)
-            .collect(Collectors.toList());
+        List<PropertyResponse> result = mapToPropertyResponsesLight(featured);
 
         log.info("Loaded {} featured properties", result.size());
         return result;
     }
 
     @Override
-    @Cacheable(value = "propertyDetails", key = "#id")
-    public PropertyResponse getPropertyById(Long id) {
+    @Transactional(readOnly = true)
+    public PropertyResponse loadPropertyDetails(Long id) {
         Property property = propertyRepository.findByIdWithImages(id)
             .orElseThrow(() -> new ResourceNotFoundException("Property not found with id: " + id));
         return mapToPropertyResponse(property);
     }
 
     @Override
-    @CacheEvict(value = {"featuredProperties", "propertyDetails"}, allEntries = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<PropertyResponse> getSimilarProperties(Long id, int limit) {
+        // The catalog is the source of the query vector; only fall back to the row before it has loaded
+        PropertyDocument doc = propertyCatalog.get(id)
+            .or(() -> propertyRepository.findById(id).map(PropertyDocument::from))
+            .orElseThrow(() -> new ResourceNotFoundException("Property not found with id: " + id));
+
+        List<Long> ids = propertySimilarityIndex.similarTo(doc, Math.min(Math.max(limit, 1), MAX_SIMILAR));
+        return mapToPropertyResponsesLight(findAllInOrder(ids));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PropertyResponse> getPropertiesByIds(List<Long> ids) {
+        return mapToPropertyResponsesLight(findAllInOrder(ids));
+    }
+
+    @Override
     public PropertyResponse createProperty(PropertyRequest request) {
         log.info("Creating new property: {}", request.getTitle());
 
@@ -106,21 +307,24 @@ public class PropertyServiceImpl implements PropertyService {
         mapRequestToProperty(request, property);
 
         Property saved = propertyRepository.save(property);
+        eventPublisher.publishEvent(new PropertyChangeEvent(null, PropertyDocument.from(saved)));
         log.info("Created property with ID: {}, Featured: {}", saved.getId(), saved.getFeatured());
         return mapToPropertyResponse(saved);
     }
 
     @Override
-    @CacheEvict(value = {"featuredProperties", "propertyDetails"}, allEntries = true)
     public PropertyResponse updateProperty(Long id, PropertyRequest request) {
         log.info("Updating property with ID: {}, Featured: {}", id, request.getFeatured());
 
         Property property = propertyRepository.findByIdWithImages(id)
             .orElseThrow(() -> new ResourceNotFoundException("Property not found with id: " + id));
 
+        PropertyDocument before = PropertyDocument.from(property);
         boolean featuredChanging = !property.getFeatured().equals(request.getFeatured());
         mapRequestToProperty(request, property);
-        Property updated = propertyRepository.save(property);
+        // Flushed so the event carries the incremented version
+        Property updated = propertyRepository.saveAndFlush(property);
+        eventPublisher.publishEvent(new PropertyChangeEvent(before, PropertyDocument.from(updated)));
 
         if (featuredChanging) {
             log.info("Featured status changed for property {}: {} -> {}",
@@ -132,7 +336,6 @@ public class PropertyServiceImpl implements PropertyService {
 
     @Override
     @Transactional
-    @CacheEvict(value = {"featuredProperties", "propertyDetails"}, allEntries = true)
     public void deleteProperty(Long id) {
         log.info("Attempting to delete property with id: {}", id);
 
@@ -140,6 +343,8 @@ public class PropertyServiceImpl implements PropertyService {
         Property property = propertyRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Property not found with id: " + id));
 
+        PropertyDocument before = PropertyDocument.from(property);
+
         // Get image URLs before deletion for cleanup
         List<String> imageUrls = new ArrayList<>();
         if (property.getImages() != null) {
@@ -152,6 +357,7 @@ public class PropertyServiceImpl implements PropertyService {
         try {
             propertyRepository.delete(property);
             propertyRepository.flush(); // Force the deletion to complete
+            eventPublisher.publishEvent(new PropertyChangeEvent(before, null));
             log.info("Successfully deleted property with id: {}", id);
         } catch (Exception e) {
             log.error("Failed to delete property with id: {}", id, e);
@@ -175,7 +381,6 @@ public class PropertyServiceImpl implements PropertyService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "propertyDetails", key = "#propertyId")
     public List<String> uploadPropertyImages(Long propertyId, MultipartFile[] files) {
         Property property = propertyRepository.findByIdWithImages(propertyId)
             .orElseThrow(() -> new ResourceNotFoundException("Property not found with id: " + propertyId));
@@ -184,6 +389,8 @@ public class PropertyServiceImpl implements PropertyService {
             throw new BadRequestException("No files provided");
         }
 
+        PropertyDocument before = PropertyDocument.from(property);
+
         // Clear existing images
         List<PropertyImage> existingImages = new ArrayList<>(property.getImages());
         property.getImages().clear(); // Clear the collection
@@ -232,21 +439,288 @@ public class PropertyServiceImpl implements PropertyService {
             }
         }
 
-        propertyRepository.save(property);
+        // Image changes alone don't dirty the row; touching it bumps the version the ETag is built from
+        property.setUpdatedAt(LocalDateTime.now());
+        Property saved = propertyRepository.saveAndFlush(property);
+        eventPublisher.publishEvent(new PropertyChangeEvent(before, PropertyDocument.from(saved)));
         log.info("Uploaded {} images for property {}", uploadedUrls.size(), propertyId);
         return uploadedUrls;
     }
 
-    @CacheEvict(value = "featuredProperties", allEntries = true)
+    /**
+     * Applies a list of admin operations as set-based UPDATE/DELETE statements in one transaction.
+     * Listings are read once to capture their prior state, change events go out as a single batch,
+     * and image files are only removed after the commit.
+     */
+    @Override
+    @Transactional
+    public PropertyBulkResponse bulkUpdate(PropertyBulkRequest request) {
+        long start = System.currentTimeMillis();
+        // State before the request and after the latest operation; a null value means deleted
+        Map<Long, PropertyDocument> original = new LinkedHashMap<>();
+        Map<Long, PropertyDocument> current = new HashMap<>();
+        List<String> imageUrls = new ArrayList<>();
+        List<PropertyBulkResponse.OperationResult> results = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (PropertyBulkRequest.Operation operation : request.getOperations()) {
+            validateBulkOperation(operation);
+            PropertyFilter filter = operation.getFilter() != null ? PropertyFilter.from(operation.getFilter()) : null;
+
+            List<Long> selected = selectBulkTargets(operation, filter);
+            loadBulkTargets(selected, original, current);
+            List<Long> targets = new ArrayList<>();
+            List<Long> notFound = new ArrayList<>();
+            for (Long id : selected) {
+                PropertyDocument doc = current.get(id);
+                if (doc == null) {
+                    notFound.add(id);
+                } else if (filter == null || filter.matchesGeo(doc)) {
+                    // The database only applied the radius's bounding box
+                    targets.add(id);
+                }
+            }
+
+            List<Long> changed = switch (operation.getAction()) {
+                case SET_STATUS -> {
+                    List<Long> ids = targets.stream()
+                        .filter(id -> !operation.getStatus().equals(current.get(id).getStatus()))
+                        .collect(Collectors.toList());
+                    forEachChunk(ids, chunk -> propertyRepository.updateStatusByIds(chunk, operation.getStatus(), now));
+                    ids.forEach(id -> current.put(id, bumped(current.get(id)).status(operation.getStatus()).build()));
+                    yield ids;
+                }
+                case SET_FEATURED -> {
+                    List<Long> ids = targets.stream()
+                        .filter(id -> !operation.getFeatured().equals(current.get(id).getFeatured()))
+                        .collect(Collectors.toList());
+                    forEachChunk(ids, chunk -> propertyRepository.updateFeaturedByIds(chunk, operation.getFeatured(), now));
+                    ids.forEach(id -> current.put(id, bumped(current.get(id)).featured(operation.getFeatured()).build()));
+                    yield ids;
+                }
+                case DELETE -> {
+                    forEachChunk(targets, chunk -> {
+                        propertyImageRepository.findImageUrlsByPropertyIds(chunk)
+                            .forEach(row -> imageUrls.add(row.getImageUrl()));
+                        contactRepository.detachFromProperties(chunk);
+                        propertyImageRepository.deleteByPropertyIds(chunk);
+                        propertyRepository.deleteByIds(chunk);
+                    });
+                    targets.forEach(id -> current.put(id, null));
+                    yield targets;
+                }
+            };
+
+            results.add(new PropertyBulkResponse.OperationResult(operation.getAction(),
+                selected.size() - notFound.size(), changed.size(), notFound));
+        }
+
+        List<PropertyChangeEvent> changes = new ArrayList<>();
+        original.forEach((id, before) -> {
+            PropertyDocument after = current.get(id);
+            if (!before.equals(after)) {
+                changes.add(new PropertyChangeEvent(before, after));
+            }
+        });
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new PropertyBulkChangeEvent(changes));
+        }
+        if (!imageUrls.isEmpty()) {
+            afterCommit(() -> deleteImageFiles(imageUrls));
+        }
+
+        log.info("Bulk update of {} operations changed {} properties in {} ms",
+            results.size(), changes.size(), System.currentTimeMillis() - start);
+        return new PropertyBulkResponse(changes.size(), results);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<String> getPropertyETag(Long id) {
+        return propertyCatalog.get(id).map(doc -> "\"p" + id + "-" + doc.getVersion() + "\"");
+    }
+
+    // List views are derived from the whole catalog, so one fingerprint covers them all; the
+    // featured list has its own, so other writes don't invalidate it
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<String> getCatalogETag(String view) {
+        if (!propertyCatalog.isReady()) {
+            return Optional.empty();
+        }
+        long fingerprint = "featured".equals(view) ? propertyCatalog.featuredFingerprint() : propertyCatalog.fingerprint();
+        return Optional.of("\"" + view + "-" + Long.toHexString(fingerprint) + "\"");
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String getETag(PropertyResponse property) {
+        return "\"p" + property.getId() + "-" + property.getVersion() + "\"";
+    }
+
+    // Matches getCatalogETag("featured") whenever the list is as fresh as the catalog
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String getFeaturedETag(List<PropertyResponse> featured) {
+        long fingerprint = 0;
+        for (PropertyResponse property : featured) {
+            fingerprint += PropertyCatalog.stamp(property.getId(), property.getVersion());
+        }
+        return "\"featured-" + Long.toHexString(fingerprint) + "\"";
+    }
+
+    @CacheEvict(value = CacheConfig.FEATURED_PROPERTIES, allEntries = true)
     public void clearFeaturedPropertiesCache() {
         log.info("Manually cleared featured properties cache");
     }
 
-    private Specification<Property> buildSpecification(SearchRequest searchRequest) {
+    // Distance ordering needs a center point; without one it degrades to newest first
+    private PropertySort resolveSort(SearchRequest searchRequest, PropertyFilter filter) {
+        PropertySort sort = PropertySort.from(searchRequest.getSortBy());
+        return sort == PropertySort.DISTANCE && filter.getCenter() == null ? PropertySort.NEWEST : sort;
+    }
+
+    private boolean usesInMemoryIndexes(PropertyFilter filter, PropertySort sort) {
+        return (filter.hasSearch() || filter.hasGeoFilter() || sort == PropertySort.DISTANCE) && propertyCatalog.isReady();
+    }
+
+    /**
+     * Candidate ids with their relevance score (zero without a search term): text matches from the
+     * search index, narrowed to the geo grid cells when a map area is given.
+     */
+    private Map<Long, Double> candidateScores(PropertyFilter filter) {
+        if (filter.hasSearch()) {
+            Map<Long, Double> scores = propertySearchIndex.search(filter.getSearch());
+            if (filter.hasGeoFilter()) {
+                scores.keySet().retainAll(propertyGeoIndex.candidates(filter));
+            }
+            return scores;
+        }
+        Collection<Long> ids = filter.hasGeoFilter()
+            ? propertyGeoIndex.candidates(filter)
+            : propertyCatalog.documents().stream().map(PropertyDocument::getId).collect(Collectors.toList());
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        ids.forEach(id -> scores.put(id, 0.0));
+        return scores;
+    }
+
+    // Key recorded in cursors for score-like orders: relevance score, or distance from the center in km
+    private double cursorScore(PropertyFilter filter, PropertySort sort, Map<Long, Double> scores, PropertyDocument doc) {
+        return sort == PropertySort.DISTANCE
+            ? filter.getCenter().distanceKm(doc)
+            : scores.getOrDefault(doc.getId(), 0.0);
+    }
+
+    private PaginatedResponse<PropertyResponse> searchInMemory(PropertyFilter filter, PropertySort sort,
+                                                               PropertyFieldSet fields, int page, int limit) {
+        Map<Long, Double> scores = candidateScores(filter);
+        List<PropertyDocument> matches = rankInMemory(filter, sort, scores);
+
+        int from = Math.min((page - 1) * limit, matches.size());
+        int to = Math.min(from + limit, matches.size());
+        List<Long> pageIds = matches.subList(from, to).stream()
+            .map(PropertyDocument::getId)
+            .collect(Collectors.toList());
+
+        return PaginatedResponse.of(loadInOrder(pageIds, fields), matches.size(), page, limit);
+    }
+
+    private PaginatedResponse<PropertyResponse> queryColumnar(ColumnarPropertyEngine engine, PropertyFilter filter,
+                                                              PropertySort sort, PropertyFieldSet fields, int page, int limit) {
+        ColumnarPropertyEngine.Result result = engine.query(filter, sort, (long) (page - 1) * limit, limit);
+        return PaginatedResponse.of(loadInOrder(result.getIds(), fields), result.getTotal(), page, limit);
+    }
+
+    private CursorPageResponse<PropertyResponse> scrollInMemory(PropertyFilter filter, PropertySort sort,
+                                                                PropertyFieldSet fields, PropertyCursor cursor, int limit) {
+        Map<Long, Double> scores = candidateScores(filter);
+        List<PropertyDocument> window = rankInMemory(filter, sort, scores).stream()
+            .filter(d -> cursor == null || cursor.isBefore(d, cursorScore(filter, sort, scores, d)))
+            .limit(limit + 1L)
+            .collect(Collectors.toList());
+
+        boolean hasMore = window.size() > limit;
+        List<PropertyDocument> pageDocs = hasMore ? window.subList(0, limit) : window;
+        String nextCursor = null;
+        if (hasMore) {
+            PropertyDocument last = pageDocs.get(pageDocs.size() - 1);
+            nextCursor = PropertyCursor.after(sort, last, cursorScore(filter, sort, scores, last)).encode();
+        }
+
+        List<Long> pageIds = pageDocs.stream().map(PropertyDocument::getId).collect(Collectors.toList());
+        return CursorPageResponse.of(loadInOrder(pageIds, fields), limit, nextCursor);
+    }
+
+    // Keyset page over a column projection; the sort keys are always selected so the cursor can be built
+    private CursorPageResponse<PropertyResponse> scrollProjected(Specification<Property> spec, Sort order, PropertySort sort,
+                                                                 PropertyFieldSet fields, int limit) {
+        List<Tuple> rows = propertyRepository.findColumns(spec, fields.columns("price", "createdAt"), order, 0, limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<Tuple> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Tuple last = pageRows.get(pageRows.size() - 1);
+            PropertyDocument key = PropertyDocument.builder()
+                .id(last.get("id", Long.class))
+                .price(last.get("price", BigDecimal.class))
+                .createdAt(last.get("createdAt", LocalDateTime.class))
+                .build();
+            nextCursor = PropertyCursor.after(sort, key, 0).encode();
+        }
+        return CursorPageResponse.of(mapToProjectedResponses(pageRows, fields), limit, nextCursor);
+    }
+
+    // Hydrate a page of ids in index order, as entities or as a column projection
+    private List<PropertyResponse> loadInOrder(List<Long> ids, PropertyFieldSet fields) {
+        if (fields.isFull()) {
+            return mapToPropertyResponsesLight(findAllInOrder(ids));
+        }
+        Map<Long, PropertyResponse> byId = mapToProjectedResponses(
+                propertyRepository.findColumnsByIds(ids, fields.columns()), fields).stream()
+            .collect(Collectors.toMap(PropertyResponse::getId, r -> r));
+        return ids.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private List<PropertyDocument> rankInMemory(PropertyFilter filter, PropertySort sort, Map<Long, Double> scores) {
+        Comparator<PropertyDocument> order = switch (sort) {
+            case RELEVANCE -> Comparator.<PropertyDocument>comparingDouble(d -> scores.getOrDefault(d.getId(), 0.0)).reversed()
+                .thenComparing(PropertyDocument::getId, Comparator.reverseOrder());
+            case DISTANCE -> Comparator.<PropertyDocument>comparingDouble(d -> filter.getCenter().distanceKm(d))
+                .thenComparing(PropertyDocument::getId);
+            default -> sort.comparator();
+        };
+
+        return scores.keySet().stream()
+            .map(propertyCatalog::get)
+            .flatMap(Optional::stream)
+            .filter(filter::matches)
+            .sorted(order)
+            .collect(Collectors.toList());
+    }
+
+    // Hydrate a page of ids while keeping the order decided by the index
+    private List<Property> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Property> byId = propertyRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Property::getId, p -> p));
+        return ids.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private Specification<Property> buildSpecification(PropertyFilter filter) {
         Specification<Property> spec = Specification.where(null);
 
-        if (searchRequest.getSearch() != null && !searchRequest.getSearch().trim().isEmpty()) {
-            String term = searchRequest.getSearch().trim().toLowerCase();
+        // Fallback only: used until the in-memory catalog has finished loading
+        if (filter.getSearch() != null) {
+            String term = filter.getSearch();
             spec = spec.and((root, query, cb) ->
                 cb.or(
                     cb.like(cb.lower(root.get("title")), "%" + term + "%"),
@@ -258,8 +732,8 @@ public class PropertyServiceImpl implements PropertyService {
             );
         }
 
-        if (searchRequest.getLocation() != null && !searchRequest.getLocation().trim().isEmpty()) {
-            String loc = searchRequest.getLocation().trim().toLowerCase();
+        if (filter.getLocation() != null) {
+            String loc = filter.getLocation();
             spec = spec.and((root, query, cb) ->
                 cb.or(
                     cb.like(cb.lower(root.get("city")), "%" + loc + "%"),
@@ -269,36 +743,164 @@ public class PropertyServiceImpl implements PropertyService {
             );
         }
 
-        if (searchRequest.getPriceRange() != null && !searchRequest.getPriceRange().isEmpty()) {
-            String[] range = searchRequest.getPriceRange().split("-");
-            BigDecimal min = new BigDecimal(range[0]);
+        if (filter.getMinPrice() != null) {
+            BigDecimal min = filter.getMinPrice();
             spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), min));
-            if (range.length > 1) {
-                BigDecimal max = new BigDecimal(range[1]);
-                spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), max));
-            }
         }
 
-        if (searchRequest.getPropertyType() != null && !searchRequest.getPropertyType().isEmpty() && !"All Types".equals(searchRequest.getPropertyType())) {
-            spec = spec.and((root, query, cb) -> cb.equal(root.get("propertyType"), searchRequest.getPropertyType()));
+        if (filter.getMaxPrice() != null) {
+            BigDecimal max = filter.getMaxPrice();
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), max));
         }
 
-        if (searchRequest.getBedrooms() != null && !searchRequest.getBedrooms().isEmpty() && !"Any".equals(searchRequest.getBedrooms())) {
-            int beds = Integer.parseInt(searchRequest.getBedrooms().replace("+", ""));
+        if (filter.getPropertyType() != null) {
+            String type = filter.getPropertyType();
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("propertyType"), type));
+        }
+
+        if (filter.getMinBedrooms() != null) {
+            int beds = filter.getMinBedrooms();
             spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("bedrooms"), beds));
         }
 
+        // Bounding box only; the exact radius check happens in memory once the catalog is ready
+        if (filter.hasGeoFilter()) {
+            double south = filter.getSouth();
+            double north = filter.getNorth();
+            double west = filter.getWest();
+            double east = filter.getEast();
+            boolean wraps = filter.crossesAntimeridian();
+            spec = spec.and((root, query, cb) -> cb.and(
+                cb.between(root.get("latitude"), south, north),
+                wraps
+                    ? cb.or(cb.greaterThanOrEqualTo(root.get("longitude"), west), cb.lessThanOrEqualTo(root.get("longitude"), east))
+                    : cb.between(root.get("longitude"), west, east)));
+        }
+
         return spec;
     }
 
-    private Sort buildSort(String sortBy) {
-        return switch (sortBy != null ? sortBy : "newest") {
-            case "priceLow" -> Sort.by("price").ascending();
-            case "priceHigh" -> Sort.by("price").descending();
-            default -> Sort.by("createdAt").descending();
+    // Id is the tie-breaker so keyset cursors always land on a unique row
+    private Sort buildSort(PropertySort sort) {
+        return switch (sort) {
+            case PRICE_LOW -> Sort.by(Sort.Order.asc("price"), Sort.Order.asc("id"));
+            case PRICE_HIGH -> Sort.by(Sort.Order.desc("price"), Sort.Order.desc("id"));
+            // Relevance needs the search index; without a search term newest first is the best we can do
+            default -> Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
         };
     }
 
+    // Written as "key <= v AND (key < v OR id < last)" so MySQL can range-seek the (key, id) index
+    private Specification<Property> buildKeysetSpecification(PropertyCursor cursor) {
+        Long lastId = cursor.getId();
+        return switch (cursor.getSort()) {
+            case PRICE_LOW -> {
+                BigDecimal price = cursor.priceKey();
+                yield (root, query, cb) -> cb.and(
+                    cb.greaterThanOrEqualTo(root.get("price"), price),
+                    cb.or(cb.greaterThan(root.get("price"), price), cb.greaterThan(root.get("id"), lastId)));
+            }
+            case PRICE_HIGH -> {
+                BigDecimal price = cursor.priceKey();
+                yield (root, query, cb) -> cb.and(
+                    cb.lessThanOrEqualTo(root.get("price"), price),
+                    cb.or(cb.lessThan(root.get("price"), price), cb.lessThan(root.get("id"), lastId)));
+            }
+            default -> {
+                LocalDateTime createdAt = cursor.createdAtKey();
+                yield (root, query, cb) -> cb.and(
+                    cb.lessThanOrEqualTo(root.get("createdAt"), createdAt),
+                    cb.or(cb.lessThan(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), lastId)));
+            }
+        };
+    }
+
+    private static void validateBulkOperation(PropertyBulkRequest.Operation operation) {
+        boolean hasIds = operation.getIds() != null && !operation.getIds().isEmpty();
+        if (hasIds == (operation.getFilter() != null)) {
+            throw new BadRequestException("Each operation needs either ids or a filter");
+        }
+        if (operation.getAction() == PropertyBulkRequest.Action.SET_STATUS && operation.getStatus() == null) {
+            throw new BadRequestException("SET_STATUS needs a status");
+        }
+        if (operation.getAction() == PropertyBulkRequest.Action.SET_FEATURED && operation.getFeatured() == null) {
+            throw new BadRequestException("SET_FEATURED needs a featured value");
+        }
+    }
+
+    // Explicit ids as given (deduplicated), or every row the filter selects in the database
+    private List<Long> selectBulkTargets(PropertyBulkRequest.Operation operation, PropertyFilter filter) {
+        if (filter == null) {
+            return operation.getIds().stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        }
+        if (filter.isEmpty()) {
+            throw new BadRequestException("A bulk filter needs at least one criterion");
+        }
+        List<Long> ids = propertyRepository.findColumns(buildSpecification(filter), List.of("id"),
+                Sort.by("id"), 0, MAX_BULK_TARGETS + 1).stream()
+            .map(row -> row.get("id", Long.class))
+            .collect(Collectors.toList());
+        if (ids.size() > MAX_BULK_TARGETS) {
+            throw new BadRequestException("Filter matches more than " + MAX_BULK_TARGETS + " properties");
+        }
+        return ids;
+    }
+
+    // Reads each listing the first time an operation touches it; later operations work from current
+    private void loadBulkTargets(List<Long> ids, Map<Long, PropertyDocument> original, Map<Long, PropertyDocument> current) {
+        List<Long> unseen = ids.stream().filter(id -> !current.containsKey(id)).collect(Collectors.toList());
+        forEachChunk(unseen, chunk -> {
+            Map<Long, PropertyDocument> loaded = propertyRepository.findAllById(chunk).stream()
+                .collect(Collectors.toMap(Property::getId, PropertyDocument::from));
+            for (Long id : chunk) {
+                PropertyDocument doc = loaded.get(id);
+                if (doc != null) {
+                    original.put(id, doc);
+                }
+                current.put(id, doc);
+            }
+        });
+    }
+
+    // Mirrors the version increment done by the bulk UPDATE statements
+    private static PropertyDocument.PropertyDocumentBuilder bumped(PropertyDocument doc) {
+        return doc.toBuilder().version(doc.getVersion() != null ? doc.getVersion() + 1 : 1L);
+    }
+
+    private static void forEachChunk(List<Long> ids, Consumer<List<Long>> action) {
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            action.accept(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+        }
+    }
+
+    private void deleteImageFiles(List<String> imageUrls) {
+        for (String imageUrl : imageUrls) {
+            try {
+                String fileName = extractFileNameFromUrl(imageUrl);
+                if (fileName != null) {
+                    fileStorageService.deleteFile(fileName);
+                }
+            } catch (Exception e) {
+                log.error("Failed to delete image file: {}", imageUrl, e);
+            }
+        }
+        log.info("Deleted {} image files of bulk-deleted properties", imageUrls.size());
+    }
+
+    // Files must only go once the rows that point at them are gone for good
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private String extractFileNameFromUrl(String url) {
         if (url == null) {
             return null;
@@ -329,6 +931,13 @@ public class PropertyServiceImpl implements PropertyService {
     }
 
     private void mapRequestToProperty(PropertyRequest request, Property property) {
+        // Checked before the fields are overwritten; a new listing always counts as moved
+        boolean addressChanged = property.getId() == null
+            || !Objects.equals(property.getAddress(), request.getAddress())
+            || !Objects.equals(property.getCity(), request.getCity())
+            || !Objects.equals(property.getState(), request.getState())
+            || !Objects.equals(property.getZip(), request.getZip());
+
         property.setTitle(request.getTitle());
         property.setPrice(request.getPrice());
         property.setDescription(request.getDescription());
@@ -343,9 +952,41 @@ public class PropertyServiceImpl implements PropertyService {
         property.setStatus(request.getStatus());
         property.setVideoLink(request.getVideoLink());
         property.setFeatured(request.getFeatured());
+
+        if (request.getLatitude() != null && request.getLongitude() != null) {
+            property.setLatitude(request.getLatitude());
+            property.setLongitude(request.getLongitude());
+        } else if (addressChanged) {
+            // Stored coordinates are kept on updates that leave the address alone; they may have been
+            // supplied by a client or an earlier geocode that would not come back the same way now
+            Optional<GeoPoint> point = geocodingService.geocode(
+                request.getAddress(), request.getCity(), request.getState(), request.getZip());
+            property.setLatitude(point.map(GeoPoint::getLatitude).orElse(null));
+            property.setLongitude(point.map(GeoPoint::getLongitude).orElse(null));
+        }
+    }
+
+    // OPTIMIZED: One set-based image query per page instead of one lazy load per row
+    private List<PropertyResponse> mapToPropertyResponsesLight(List<Property> properties) {
+        if (properties.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> ids = properties.stream()
+            .map(Property::getId)
+            .collect(Collectors.toList());
+
+        Map<Long, List<String>> imagesByProperty = new HashMap<>();
+        for (PropertyImageRepository.PropertyImageUrl row : propertyImageRepository.findImageUrlsByPropertyIds(ids)) {
+            imagesByProperty.computeIfAbsent(row.getPropertyId(), k -> new ArrayList<>()).add(row.getImageUrl());
+        }
+
+        return properties.stream()
+            .map(p -> mapToPropertyResponseLight(p, imagesByProperty.getOrDefault(p.getId(), new ArrayList<>())))
+            .collect(Collectors.toList());
     }
 
-    private PropertyResponse mapToPropertyResponseLight(Property property) {
+    private PropertyResponse mapToPropertyResponseLight(Property property, List<String> imageUrls) {
         PropertyResponse resp = new PropertyResponse();
         resp.setId(property.getId());
         resp.setTitle(property.getTitle());
@@ -364,16 +1005,73 @@ public class PropertyServiceImpl implements PropertyService {
         resp.setFeatured(property.getFeatured());
         resp.setCreatedAt(property.getCreatedAt());
         resp.setUpdatedAt(property.getUpdatedAt());
-
-        List<String> urls = property.getImages().stream()
-            .map(PropertyImage::getImageUrl)
-            .collect(Collectors.toList());
-        resp.setImages(urls);
+        resp.setVersion(property.getVersion());
+        resp.setLatitude(property.getLatitude());
+        resp.setLongitude(property.getLongitude());
+        resp.setImages(imageUrls);
 
         return resp;
     }
 
+    // Sparse listing rows: copy the selected columns, the cover image stands in for the image list
+    private List<PropertyResponse> mapToProjectedResponses(List<Tuple> rows, PropertyFieldSet fields) {
+        List<PropertyResponse> responses = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            PropertyResponse resp = new SparsePropertyResponse();
+            for (TupleElement<?> element : row.getElements()) {
+                String column = element.getAlias();
+                Object value = row.get(element);
+                if ("imageUrl".equals(column)) {
+                    String cover = (String) value;
+                    resp.setImages(cover != null && !cover.isEmpty() ? List.of(cover) : new ArrayList<>());
+                } else if (fields.includes(column)) {
+                    applyColumn(resp, column, value);
+                }
+            }
+            responses.add(resp);
+        }
+
+        if (fields.includes(PropertyFieldSet.ALL_IMAGES) && !responses.isEmpty()) {
+            List<Long> ids = responses.stream().map(PropertyResponse::getId).collect(Collectors.toList());
+            Map<Long, List<String>> imagesByProperty = new HashMap<>();
+            for (PropertyImageRepository.PropertyImageUrl row : propertyImageRepository.findImageUrlsByPropertyIds(ids)) {
+                imagesByProperty.computeIfAbsent(row.getPropertyId(), k -> new ArrayList<>()).add(row.getImageUrl());
+            }
+            responses.forEach(r -> r.setImages(imagesByProperty.getOrDefault(r.getId(), new ArrayList<>())));
+        }
+        return responses;
+    }
+
+    private void applyColumn(PropertyResponse resp, String column, Object value) {
+        switch (column) {
+            case "id" -> resp.setId((Long) value);
+            case "title" -> resp.setTitle((String) value);
+            case "price" -> resp.setPrice((BigDecimal) value);
+            case "description" -> resp.setDescription((String) value);
+            case "address" -> resp.setAddress((String) value);
+            case "city" -> resp.setCity((String) value);
+            case "state" -> resp.setState((String) value);
+            case "zip" -> resp.setZip((String) value);
+            case "bedrooms" -> resp.setBedrooms((Integer) value);
+            case "bathrooms" -> resp.setBathrooms((BigDecimal) value);
+            case "squareFootage" -> resp.setSquareFootage((Integer) value);
+            case "videoLink" -> resp.setVideoLink((String) value);
+            case "latitude" -> resp.setLatitude((Double) value);
+            case "longitude" -> resp.setLongitude((Double) value);
+            case "propertyType" -> resp.setPropertyType((String) value);
+            case "featured" -> resp.setFeatured((Boolean) value);
+            case "status" -> resp.setStatus((String) value);
+            case "createdAt" -> resp.setCreatedAt((LocalDateTime) value);
+            case "updatedAt" -> resp.setUpdatedAt((LocalDateTime) value);
+            default -> throw new IllegalArgumentException("Unmapped column: " + column);
+        }
+    }
+
+    // Used where the images collection is already initialized (fetch join or freshly saved entity)
     private PropertyResponse mapToPropertyResponse(Property property) {
-        return mapToPropertyResponseLight(property);
+        List<String> urls = property.getImages().stream()
+            .map(PropertyImage::getImageUrl)
+            .collect(Collectors.toList());
+        return mapToPropertyResponseLight(property, urls);
     }
 }
\ No newline at end of file
@@ -0,0 +1,438 @@
+package com.soham.realty.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.soham.realty.dto.response.PropertyStreamEventResponse;
+import com.soham.realty.event.PropertyBulkChangeEvent;
+import com.soham.realty.event.PropertyChangeEvent;
+import com.soham.realty.event.PropertyImportCompletedEvent;
+import com.soham.realty.search.PropertyDocument;
+import com.soham.realty.service.PropertyStreamService;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent events for committed property writes, at {@code GET /api/properties/stream}.
+ * <p>
+ * Streams are async requests, so an idle client holds a connection but no thread. Events are kept in
+ * a bounded ring buffer; a client that reconnects with {@code Last-Event-ID} gets what it missed, or
+ * a {@code resync} event when the id has left the buffer or came from another instance or run.
+ * Each stream has its own bounded queue, drained by a small pool of sender threads, so network
+ * writes stay off the committing threads and every stream sees events in commit order. A client
+ * that falls too far behind is closed and resumes from the buffer when it reconnects.
+ * <p>
+ * Writes are blocking, so a client that stops reading can hold its sender thread until the
+ * container's write timeout. A send still blocked after {@code app.stream.send-timeout} closes its
+ * stream, and the pool gets an extra thread until that send returns, so stalled clients cannot
+ * take every sender thread from the healthy ones.
+ */
+@Service
+@Slf4j
+public class PropertyStreamServiceImpl implements PropertyStreamService {
+
+    private static final String CHANGE_EVENT = "change";
+    private static final String RESYNC_EVENT = "resync";
+
+    // A bulk change or import larger than this is announced as one resync rather than one event per listing
+    private static final int MAX_EVENTS_PER_CHANGE = 100;
+    private static final long RECONNECT_MS = 3_000;
+
+    // Event ids are "<epoch>-<sequence>"; the epoch tells ids from this run apart from any other
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final Object lock = new Object();
+    private final StreamEvent[] buffer;
+    private long sequence = 0;
+    private final Set<Subscriber> subscribers = new LinkedHashSet<>();
+    // Streams with a write in progress, including ones already closed for falling behind
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();
+
+    private final int maxSubscribers;
+    private final int maxPendingPerStream;
+    private final Duration timeout;
+    private final Duration sendTimeout;
+    private final int senderThreads;
+    private final int maxStalledSends;
+    private final ThreadPoolExecutor sender;
+    // Threads added for sends stuck past the send timeout; guarded by sender
+    private int extraSenders = 0;
+
+    public PropertyStreamServiceImpl(@Value("${app.stream.buffer-size:1000}") int bufferSize,
+                                     @Value("${app.stream.max-subscribers:5000}") int maxSubscribers,
+                                     @Value("${app.stream.max-pending-per-stream:256}") int maxPendingPerStream,
+                                     @Value("${app.stream.sender-threads:4}") int senderThreads,
+                                     @Value("${app.stream.max-stalled-sends:100}") int maxStalledSends,
+                                     @Value("${app.stream.send-timeout:PT5S}") Duration sendTimeout,
+                                     @Value("${app.stream.timeout:PT30M}") Duration timeout) {
+        this.buffer = new StreamEvent[bufferSize];
+        this.maxSubscribers = maxSubscribers;
+        this.maxPendingPerStream = maxPendingPerStream;
+        this.senderThreads = senderThreads;
+        this.maxStalledSends = maxStalledSends;
+        this.sendTimeout = sendTimeout;
+        this.timeout = timeout;
+        // A stream has at most one drain task queued, so the queue is bounded by the subscriber limit
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "PropertyStream-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    @Override
+    public Optional<SseEmitter> subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> {
+            unsubscribe(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        synchronized (lock) {
+            if (subscribers.size() >= maxSubscribers) {
+                return Optional.empty();
+            }
+            subscribers.add(subscriber);
+            // Queued under the lock, so nothing published after this point can overtake the replay.
+            // An id-only message comes first, so a client that drops before the first event still
+            // resumes from here
+            subscriber.enqueue(SseEmitter.event().id(eventId(sequence)).comment("connected").reconnectTime(RECONNECT_MS));
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                Long last = parseEventId(lastEventId);
+                if (last != null && last <= sequence && last >= sequence - Math.min(sequence, buffer.length)
+                        && sequence - last < maxPendingPerStream) {
+                    for (long seq = last + 1; seq <= sequence; seq++) {
+                        subscriber.enqueue(buffer[(int) (seq % buffer.length)].toSse(epoch));
+                    }
+                } else {
+                    subscriber.enqueue(new StreamEvent(sequence, RESYNC_EVENT,
+                        new PropertyStreamEventResponse(RESYNC_EVENT, null, null, null)).toSse(epoch));
+                }
+            }
+        }
+        return Optional.of(emitter);
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        synchronized (lock) {
+            return subscribers.size();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChange(PropertyChangeEvent event) {
+        publish(List.of(event));
+    }
+
+    // Includes changes replicated from other instances, so every stream sees the whole cluster's writes
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyBulkChange(PropertyBulkChangeEvent event) {
+        publish(event.getChanges());
+    }
+
+    // One resync per import, however many batches it took
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyImport(PropertyImportCompletedEvent event) {
+        if (event.getImported() == 0) {
+            return;
+        }
+        synchronized (lock) {
+            broadcast(List.of(append(RESYNC_EVENT, new PropertyStreamEventResponse(RESYNC_EVENT, null, null, null))));
+        }
+    }
+
+    // Comments are ignored by EventSource but keep proxies from closing idle streams and find dead clients
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        synchronized (lock) {
+            // Copied, since a stream that is too far behind is removed as it is queued to
+            new ArrayList<>(subscribers).forEach(subscriber -> subscriber.enqueue(SseEmitter.event().comment("keep-alive")));
+        }
+    }
+
+    /**
+     * Gives up on sends that have been blocked for longer than the send timeout. The stream is closed
+     * so no further work is routed to it, and the pool gets a thread in place of the blocked one,
+     * which only returns once the container's write timeout fails the write.
+     */
+    @Scheduled(fixedDelayString = "${app.stream.send-timeout:PT5S}")
+    public void replaceStalledSenders() {
+        long cutoff = System.nanoTime() - sendTimeout.toNanos();
+        for (Subscriber subscriber : sending) {
+            if (subscriber.markStalled(cutoff)) {
+                log.info("Closing a property stream whose send has been blocked for over {}", sendTimeout);
+                synchronized (lock) {
+                    subscribers.remove(subscriber);
+                }
+            }
+        }
+    }
+
+    // On context close rather than at bean destruction: the web server drains active requests before
+    // beans are destroyed, and an open stream would hold that up for the whole shutdown timeout
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        sender.shutdownNow();
+        List<Subscriber> open;
+        synchronized (lock) {
+            open = new ArrayList<>(subscribers);
+            subscribers.clear();
+        }
+        open.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void publish(Collection<PropertyChangeEvent> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            List<StreamEvent> events = new ArrayList<>();
+            if (changes.size() > MAX_EVENTS_PER_CHANGE) {
+                events.add(append(RESYNC_EVENT, new PropertyStreamEventResponse(RESYNC_EVENT, null, null, null)));
+            } else {
+                for (PropertyChangeEvent change : changes) {
+                    events.add(append(CHANGE_EVENT, toResponse(change)));
+                }
+            }
+            broadcast(events);
+        }
+    }
+
+    // Only queues; the writes happen on the sender threads. Called under the lock
+    private void broadcast(List<StreamEvent> events) {
+        for (Subscriber subscriber : new ArrayList<>(subscribers)) {
+            events.forEach(event -> subscriber.enqueue(event.toSse(epoch)));
+        }
+    }
+
+    private StreamEvent append(String name, PropertyStreamEventResponse data) {
+        StreamEvent event = new StreamEvent(++sequence, name, data);
+        buffer[(int) (event.sequence % buffer.length)] = event;
+        return event;
+    }
+
+    private static PropertyStreamEventResponse toResponse(PropertyChangeEvent change) {
+        if (change.isDelete()) {
+            return new PropertyStreamEventResponse("deleted", change.getPropertyId(), null,
+                change.getBefore().getFeatured());
+        }
+        PropertyDocument after = change.getAfter();
+        return new PropertyStreamEventResponse(change.isCreate() ? "created" : "updated", after.getId(),
+            after.getVersion(), after.getFeatured());
+    }
+
+    // False once maxStalledSends threads are already blocked; the stream is still closed
+    private boolean addSender() {
+        synchronized (sender) {
+            if (extraSenders >= maxStalledSends) {
+                return false;
+            }
+            extraSenders++;
+            // Raising the core size starts a thread for the queued drain tasks
+            sender.setMaximumPoolSize(senderThreads + extraSenders);
+            sender.setCorePoolSize(senderThreads + extraSenders);
+            return true;
+        }
+    }
+
+    // The surplus thread ends when it next goes idle
+    private void removeSender() {
+        synchronized (sender) {
+            extraSenders--;
+            sender.setCorePoolSize(senderThreads + extraSenders);
+            sender.setMaximumPoolSize(senderThreads + extraSenders);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.close();
+        synchronized (lock) {
+            subscribers.remove(subscriber);
+        }
+    }
+
+    private String eventId(long seq) {
+        return epoch + "-" + seq;
+    }
+
+    // Null when the id is malformed or was issued by another instance or an earlier run
+    private Long parseEventId(String id) {
+        int dash = id.lastIndexOf('-');
+        if (dash < 0 || !epoch.equals(id.substring(0, dash))) {
+            return null;
+        }
+        try {
+            return Long.parseLong(id.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * One client's stream and the events queued for it. At most one sender thread drains a queue at
+     * a time, so the client sees events in the order they were queued.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Deque<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>();
+        private boolean draining = false;
+        private boolean closed = false;
+        // Closed for falling behind, rather than by the client or the container
+        private boolean evicted = false;
+        // Set while a write is in progress, with its start time from System.nanoTime()
+        private boolean inSend = false;
+        private long sendStartedAt;
+        // The pool was given a thread in place of the one blocked in this stream's write
+        private boolean replaced = false;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // Never blocks, so it is safe under the service lock and on committing threads
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            boolean overflowed;
+            boolean schedule;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                overflowed = pending.size() >= maxPendingPerStream;
+                if (overflowed) {
+                    // Dropping events would leave the stream silently incomplete; closing it makes the client resume
+                    closed = true;
+                    evicted = true;
+                    pending.clear();
+                } else {
+                    pending.add(event);
+                }
+                schedule = !draining;
+                draining = true;
+            }
+            if (overflowed) {
+                log.info("Closing a property stream that is {} events behind", maxPendingPerStream);
+                synchronized (lock) {
+                    subscribers.remove(this);
+                }
+            }
+            if (schedule) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down; shutdown() completes every stream
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder next;
+                synchronized (this) {
+                    if (closed) {
+                        draining = false;
+                        break;
+                    }
+                    next = pending.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                    inSend = true;
+                    sendStartedAt = System.nanoTime();
+                }
+                sending.add(this);
+                boolean failed = false;
+                try {
+                    emitter.send(next);
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away, or the stream already completed
+                    failed = true;
+                }
+                sending.remove(this);
+                boolean release;
+                synchronized (this) {
+                    inSend = false;
+                    release = replaced;
+                    replaced = false;
+                }
+                if (release) {
+                    removeSender();
+                }
+                if (failed) {
+                    unsubscribe(this);
+                    return;
+                }
+            }
+            // Completed here rather than by the publisher, since a send that is still blocked on
+            // this client would hold the publisher up as well
+            if (evicted) {
+                emitter.complete();
+            }
+        }
+
+        // Replaces the thread of a send that started before the cutoff; true if this also closed the stream
+        private synchronized boolean markStalled(long cutoff) {
+            if (!inSend || replaced || sendStartedAt - cutoff > 0) {
+                return false;
+            }
+            replaced = addSender();
+            if (closed) {
+                // Already closed for falling behind, with its thread still stuck in the write
+                return false;
+            }
+            closed = true;
+            evicted = true;
+            pending.clear();
+            return true;
+        }
+
+        private synchronized void close() {
+            closed = true;
+            pending.clear();
+        }
+    }
+
+    private static final class StreamEvent {
+        private final long sequence;
+        private final String name;
+        private final PropertyStreamEventResponse data;
+
+        private StreamEvent(long sequence, String name, PropertyStreamEventResponse data) {
+            this.sequence = sequence;
+            this.name = name;
+            this.data = data;
+        }
+
+        private SseEmitter.SseEventBuilder toSse(String epoch) {
+            return SseEmitter.event().id(epoch + "-" + sequence).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
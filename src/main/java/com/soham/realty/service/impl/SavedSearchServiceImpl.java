@@ -0,0 +1,352 @@
+package com.soham.realty.service.impl;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.soham.realty.dto.request.SavedSearchRequest;
+import com.soham.realty.dto.request.SearchRequest;
+import com.soham.realty.dto.response.PaginatedResponse;
+import com.soham.realty.dto.response.PropertyResponse;
+import com.soham.realty.dto.response.SavedSearchMatchResponse;
+import com.soham.realty.dto.response.SavedSearchResponse;
+import com.soham.realty.entity.SavedSearch;
+import com.soham.realty.entity.SavedSearchMatch;
+import com.soham.realty.event.PropertyBulkChangeEvent;
+import com.soham.realty.event.PropertyChangeEvent;
+import com.soham.realty.event.PropertyImportEvent;
+import com.soham.realty.exception.BadRequestException;
+import com.soham.realty.exception.ResourceNotFoundException;
+import com.soham.realty.repository.SavedSearchMatchRepository;
+import com.soham.realty.repository.SavedSearchRepository;
+import com.soham.realty.search.PropertyDocument;
+import com.soham.realty.search.PropertyFilter;
+import com.soham.realty.search.SavedSearchIndex;
+import com.soham.realty.service.PropertyService;
+import com.soham.realty.service.SavedSearchService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class SavedSearchServiceImpl implements SavedSearchService {
+
+    private static final String AVAILABLE = "Available";
+    private static final int DELETE_CHUNK_SIZE = 1000;
+    private static final int MAX_MATCHES_PER_PAGE = 100;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMatchRepository savedSearchMatchRepository;
+    private final SavedSearchIndex savedSearchIndex;
+    private final PropertyService propertyService;
+    private final TransactionTemplate transactionTemplate;
+
+    // Saved searches whose stored criteria no longer parse; kept so the sync does not retry them
+    private final Set<Long> invalid = new HashSet<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void loadIndex() {
+        invalid.clear();
+        Map<Long, PropertyFilter> filters = new HashMap<>();
+        for (SavedSearch savedSearch : savedSearchRepository.findAll()) {
+            toFilter(savedSearch).ifPresent(filter -> filters.put(savedSearch.getId(), filter));
+        }
+        savedSearchIndex.rebuild(filters);
+    }
+
+    /**
+     * The index lives on each instance, but a listing is only matched on the instance that wrote it,
+     * so searches saved or deleted through other instances are picked up here. Saved searches are
+     * never edited, so comparing ids is enough. Ids come from pooled blocks, so neither the highest id
+     * nor the count alone would reveal every change.
+     */
+    @Scheduled(fixedDelayString = "${app.saved-search.sync-interval:PT5S}")
+    @Transactional(readOnly = true)
+    public synchronized void syncIndex() {
+        Set<Long> current = new HashSet<>(savedSearchRepository.findAllIds());
+        invalid.retainAll(current);
+        Set<Long> indexed = savedSearchIndex.ids();
+
+        List<Long> added = current.stream()
+            .filter(id -> !indexed.contains(id) && !invalid.contains(id))
+            .collect(Collectors.toList());
+        indexed.removeAll(current);
+        indexed.forEach(savedSearchIndex::delete);
+        for (SavedSearch savedSearch : savedSearchRepository.findAllById(added)) {
+            toFilter(savedSearch).ifPresent(filter -> savedSearchIndex.put(savedSearch.getId(), filter));
+        }
+        if (!added.isEmpty() || !indexed.isEmpty()) {
+            log.info("Saved search index picked up {} new and {} deleted searches", added.size(), indexed.size());
+        }
+    }
+
+    private Optional<PropertyFilter> toFilter(SavedSearch savedSearch) {
+        try {
+            return Optional.of(PropertyFilter.from(toSearchRequest(savedSearch)));
+        } catch (BadRequestException e) {
+            log.warn("Skipping saved search {} with invalid criteria: {}", savedSearch.getId(), e.getMessage());
+            invalid.add(savedSearch.getId());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public SavedSearchResponse createSavedSearch(SavedSearchRequest request) {
+        SavedSearch savedSearch = new SavedSearch();
+        savedSearch.setName(request.getName());
+        savedSearch.setEmail(request.getEmail());
+        savedSearch.setAccessToken(UUID.randomUUID().toString());
+        savedSearch.setSearch(request.getSearch());
+        savedSearch.setLocation(request.getLocation());
+        savedSearch.setPriceRange(request.getPriceRange());
+        savedSearch.setPropertyType(request.getPropertyType());
+        savedSearch.setBedrooms(request.getBedrooms());
+        savedSearch.setLat(request.getLat());
+        savedSearch.setLng(request.getLng());
+        savedSearch.setRadiusKm(request.getRadiusKm());
+
+        // Parse up front so invalid criteria are rejected instead of silently never matching
+        PropertyFilter filter = PropertyFilter.from(toSearchRequest(savedSearch));
+
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        afterCommit(() -> savedSearchIndex.put(saved.getId(), filter));
+        log.info("Created saved search {} for {}", saved.getId(), saved.getEmail());
+        return mapToSavedSearchResponse(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SavedSearchResponse getSavedSearch(String accessToken) {
+        return mapToSavedSearchResponse(findByToken(accessToken));
+    }
+
+    @Override
+    public void deleteSavedSearch(String accessToken) {
+        SavedSearch savedSearch = findByToken(accessToken);
+        savedSearchMatchRepository.deleteBySavedSearchId(savedSearch.getId());
+        savedSearchRepository.delete(savedSearch);
+        afterCommit(() -> savedSearchIndex.delete(savedSearch.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponse<SavedSearchMatchResponse> getMatches(String accessToken, Integer page, Integer limit) {
+        SavedSearch savedSearch = findByToken(accessToken);
+        int pageNumber = Math.max(page, 1);
+        int pageSize = Math.min(Math.max(limit, 1), MAX_MATCHES_PER_PAGE);
+        Page<SavedSearchMatch> matches = savedSearchMatchRepository.findBySavedSearchIdOrderByMatchedAtDescIdDesc(
+            savedSearch.getId(), PageRequest.of(pageNumber - 1, pageSize));
+
+        List<Long> propertyIds = matches.getContent().stream()
+            .map(SavedSearchMatch::getPropertyId)
+            .collect(Collectors.toList());
+        Map<Long, PropertyResponse> properties = propertyService.getPropertiesByIds(propertyIds).stream()
+            .collect(Collectors.toMap(PropertyResponse::getId, Function.identity()));
+
+        List<SavedSearchMatchResponse> responses = matches.getContent().stream()
+            .filter(m -> properties.containsKey(m.getPropertyId()))
+            .map(m -> new SavedSearchMatchResponse(m.getMatchedAt(), properties.get(m.getPropertyId())))
+            .collect(Collectors.toList());
+
+        return PaginatedResponse.of(responses, matches.getTotalElements(), pageNumber, pageSize);
+    }
+
+    /**
+     * Reverse matching: the committed listing is looked up in the saved search index, and only the
+     * searches it newly satisfies get an inbox entry. Runs off the request thread, outside any
+     * transaction; each write below commits on its own.
+     */
+    @Async("asyncExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onPropertyChange(PropertyChangeEvent event) {
+        PropertyDocument after = event.getAfter();
+        if (after == null) {
+            // Deleted listings leave every inbox
+            transactionTemplate.executeWithoutResult(status ->
+                savedSearchMatchRepository.deleteByPropertyId(event.getPropertyId()));
+            return;
+        }
+
+        int saved = saveMatches(newMatches(after));
+        if (saved > 0) {
+            log.debug("Property {} matched {} saved searches", after.getId(), saved);
+        }
+    }
+
+    @Async("asyncExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onPropertyBulkChange(PropertyBulkChangeEvent event) {
+        if (event.isReplicated()) {
+            // Matches are rows in the shared database; the instance that made the change wrote them
+            return;
+        }
+        List<Long> deleted = new ArrayList<>();
+        List<SavedSearchMatch> rows = new ArrayList<>();
+        for (PropertyChangeEvent change : event.getChanges()) {
+            if (change.isDelete()) {
+                deleted.add(change.getPropertyId());
+            } else {
+                rows.addAll(newMatches(change.getAfter()));
+            }
+        }
+        if (!deleted.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < deleted.size(); from += DELETE_CHUNK_SIZE) {
+                    savedSearchMatchRepository.deleteByPropertyIds(deleted.subList(from, Math.min(from + DELETE_CHUNK_SIZE, deleted.size())));
+                }
+            });
+        }
+        int saved = saveMatches(rows);
+        log.info("Bulk change removed {} listings from inboxes and produced {} saved search matches",
+            deleted.size(), saved);
+    }
+
+    // Searches the listing satisfies that have not been notified about it yet
+    private List<SavedSearchMatch> newMatches(PropertyDocument doc) {
+        if (!AVAILABLE.equals(doc.getStatus())) {
+            return List.of();
+        }
+        Set<Long> matched = savedSearchIndex.matching(doc);
+        if (matched.isEmpty()) {
+            return List.of();
+        }
+        // An update that keeps matching must not notify twice
+        matched.removeAll(savedSearchMatchRepository.findMatchedSearchIds(doc.getId(), matched));
+
+        return matched.stream()
+            .map(savedSearchId -> {
+                SavedSearchMatch match = new SavedSearchMatch();
+                match.setSavedSearchId(savedSearchId);
+                match.setPropertyId(doc.getId());
+                return match;
+            })
+            .collect(Collectors.toList());
+    }
+
+    @Async("asyncExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onPropertyImport(PropertyImportEvent event) {
+        List<SavedSearchMatch> rows = new ArrayList<>();
+        for (PropertyDocument doc : event.getDocuments()) {
+            if (!AVAILABLE.equals(doc.getStatus())) {
+                continue;
+            }
+            for (Long savedSearchId : savedSearchIndex.matching(doc)) {
+                SavedSearchMatch match = new SavedSearchMatch();
+                match.setSavedSearchId(savedSearchId);
+                match.setPropertyId(doc.getId());
+                rows.add(match);
+            }
+        }
+        log.info("Imported properties produced {} saved search matches", saveMatches(rows));
+    }
+
+    /**
+     * Inserts the rows in one transaction. The check in {@link #newMatches} is not atomic: events for
+     * the same listing run concurrently on the async executor, and two of them can both find no entry
+     * and insert the same pair. The unique key then rejects the whole transaction, so the rows are
+     * retried one at a time and duplicates are skipped. Returns the number of rows inserted.
+     */
+    private int saveMatches(List<SavedSearchMatch> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> savedSearchMatchRepository.saveAll(rows));
+            return rows.size();
+        } catch (DataIntegrityViolationException e) {
+            int saved = 0;
+            for (SavedSearchMatch row : rows) {
+                // Ids assigned by the rolled-back attempt would make the retry an update
+                row.setId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> savedSearchMatchRepository.saveAndFlush(row));
+                    saved++;
+                } catch (DataIntegrityViolationException duplicate) {
+                    log.debug("Saved search {} was already notified about property {}",
+                        row.getSavedSearchId(), row.getPropertyId());
+                }
+            }
+            return saved;
+        }
+    }
+
+    private SavedSearch findByToken(String accessToken) {
+        return savedSearchRepository.findByAccessToken(accessToken)
+            .orElseThrow(() -> new ResourceNotFoundException("Saved search not found"));
+    }
+
+    private static SearchRequest toSearchRequest(SavedSearch savedSearch) {
+        SearchRequest request = new SearchRequest();
+        request.setSearch(savedSearch.getSearch());
+        request.setLocation(savedSearch.getLocation());
+        request.setPriceRange(savedSearch.getPriceRange());
+        request.setPropertyType(savedSearch.getPropertyType());
+        request.setBedrooms(savedSearch.getBedrooms());
+        request.setLat(savedSearch.getLat());
+        request.setLng(savedSearch.getLng());
+        request.setRadiusKm(savedSearch.getRadiusKm());
+        return request;
+    }
+
+    // The in-memory index must only ever reflect committed rows
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private SavedSearchResponse mapToSavedSearchResponse(SavedSearch savedSearch) {
+        SavedSearchResponse response = new SavedSearchResponse();
+        response.setId(savedSearch.getId());
+        response.setName(savedSearch.getName());
+        response.setEmail(savedSearch.getEmail());
+        response.setAccessToken(savedSearch.getAccessToken());
+        response.setSearch(savedSearch.getSearch());
+        response.setLocation(savedSearch.getLocation());
+        response.setPriceRange(savedSearch.getPriceRange());
+        response.setPropertyType(savedSearch.getPropertyType());
+        response.setBedrooms(savedSearch.getBedrooms());
+        response.setLat(savedSearch.getLat());
+        response.setLng(savedSearch.getLng());
+        response.setRadiusKm(savedSearch.getRadiusKm());
+        response.setCreatedAt(savedSearch.getCreatedAt());
+        return response;
+    }
+}
@@ -0,0 +1,402 @@
+package com.soham.realty.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import com.soham.realty.dto.request.SearchRequest;
+import com.soham.realty.dto.response.ApiResponse;
+import com.soham.realty.dto.response.PaginatedResponse;
+import com.soham.realty.dto.response.PropertyResponse;
+import com.soham.realty.dto.response.WarmupReportResponse;
+import com.soham.realty.exception.ResourceNotFoundException;
+import com.soham.realty.search.PropertyCatalog;
+import com.soham.realty.search.PropertyDocument;
+import com.soham.realty.search.PropertyFilter;
+import com.soham.realty.search.PropertySort;
+import com.soham.realty.security.JwtTokenProvider;
+import com.soham.realty.security.UserPrincipal;
+import com.soham.realty.service.PropertyService;
+import com.soham.realty.service.WarmupService;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms the instance up before it reports ready: fills the featured, detail and listing caches,
+ * opens the whole connection pool, and replays the hot paths (search, JWT, JSON, the HTTP stack)
+ * often enough for the JIT to compile them. It runs inside {@code ApplicationReadyEvent}, and Spring
+ * Boot only moves the readiness state to {@code ACCEPTING_TRAFFIC} once those listeners return, so
+ * {@code /actuator/health/readiness} answers 503 until the warm-up is done or its time box runs out.
+ * <p>
+ * Tasks run in parallel; any still running at {@code app.warmup.timeout} are cancelled and reported
+ * as timed out. A failing task is logged and never blocks startup.
+ */
+@Service
+@Slf4j
+public class WarmupServiceImpl implements WarmupService {
+
+    // Same page size the listing endpoint defaults to, so the warmed cache keys are the ones the site asks for
+    private static final int LISTING_PAGE_SIZE = 9;
+    private static final int HTTP_DETAIL_PATHS = 5;
+    private static final Duration HTTP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final PropertyService propertyService;
+    private final PropertyCatalog propertyCatalog;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final DataSource dataSource;
+    private final ApplicationContext applicationContext;
+    private final boolean enabled;
+    private final Duration timeout;
+    private final int detailCount;
+    private final int listingPages;
+    private final int iterations;
+    private final int threads;
+
+    private volatile WarmupReportResponse lastReport;
+
+    public WarmupServiceImpl(PropertyService propertyService,
+                             PropertyCatalog propertyCatalog,
+                             JwtTokenProvider jwtTokenProvider,
+                             ObjectMapper objectMapper,
+                             DataSource dataSource,
+                             ApplicationContext applicationContext,
+                             @Value("${app.warmup.enabled:true}") boolean enabled,
+                             @Value("${app.warmup.timeout:PT60S}") Duration timeout,
+                             @Value("${app.warmup.details:50}") int detailCount,
+                             @Value("${app.warmup.listing-pages:3}") int listingPages,
+                             @Value("${app.warmup.iterations:500}") int iterations,
+                             @Value("${app.warmup.threads:4}") int threads) {
+        this.propertyService = propertyService;
+        this.propertyCatalog = propertyCatalog;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.objectMapper = objectMapper;
+        this.dataSource = dataSource;
+        this.applicationContext = applicationContext;
+        this.enabled = enabled;
+        this.timeout = timeout;
+        this.detailCount = detailCount;
+        this.listingPages = listingPages;
+        this.iterations = iterations;
+        this.threads = threads;
+    }
+
+    // After the catalog has loaded, since the detail and search tasks pick their inputs from it
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onApplicationReady() {
+        if (enabled) {
+            warmUp();
+        }
+    }
+
+    @Override
+    public synchronized WarmupReportResponse warmUp() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        List<Long> topIds = topPropertyIds();
+
+        List<WarmupTask> tasks = List.of(
+            new WarmupTask("connection-pool", this::fillConnectionPool),
+            new WarmupTask("featured", warmed -> {
+                propertyService.getFeaturedProperties();
+                warmed.incrementAndGet();
+                return true;
+            }),
+            new WarmupTask("property-details", warmed -> loadDetails(topIds, warmed)),
+            new WarmupTask("listing-pages", this::loadListingPages),
+            new WarmupTask("search", this::runSearches),
+            new WarmupTask("jwt", this::validateTokens),
+            new WarmupTask("json", this::serializeResponses),
+            new WarmupTask("http", warmed -> replayRequests(topIds, warmed)));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "Warmup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<Void>> futures = List.of();
+        try {
+            futures = executor.invokeAll(tasks, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long duration = System.currentTimeMillis() - start;
+        List<WarmupReportResponse.TaskResult> results = new ArrayList<>();
+        boolean completed = futures.size() == tasks.size();
+        for (int i = 0; i < tasks.size(); i++) {
+            WarmupTask task = tasks.get(i);
+            boolean timedOut = i >= futures.size() || futures.get(i).isCancelled();
+            completed &= !timedOut;
+            results.add(new WarmupReportResponse.TaskResult(task.name, timedOut ? "timed out" : task.status,
+                task.warmed.get(), timedOut ? duration : task.durationMs));
+        }
+
+        WarmupReportResponse report = new WarmupReportResponse(startedAt, duration, completed, results);
+        results.forEach(result -> log.info("Warm-up {}: {}, {} warmed in {} ms",
+            result.getName(), result.getStatus(), result.getWarmed(), result.getDurationMs()));
+        log.info("Warm-up {} in {} ms", completed ? "finished" : "stopped at its time box", duration);
+        lastReport = report;
+        return report;
+    }
+
+    @Override
+    public Optional<WarmupReportResponse> getLastReport() {
+        return Optional.ofNullable(lastReport);
+    }
+
+    // Featured listings first, then the newest; these are what the home page links to
+    private List<Long> topPropertyIds() {
+        return propertyCatalog.documents().stream()
+            .sorted(Comparator.comparing((PropertyDocument doc) -> !Boolean.TRUE.equals(doc.getFeatured()))
+                .thenComparing(PropertySort.NEWEST.comparator()))
+            .limit(detailCount)
+            .map(PropertyDocument::getId)
+            .toList();
+    }
+
+    // Hikari only keeps minimum-idle connections open; borrowing the maximum at once makes it open the rest now
+    private boolean fillConnectionPool(AtomicInteger warmed) throws Exception {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            return false;
+        }
+        int size = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i < size; i++) {
+                checkInterrupted();
+                held.add(dataSource.getConnection());
+                warmed.incrementAndGet();
+            }
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+        return true;
+    }
+
+    private boolean loadDetails(List<Long> ids, AtomicInteger warmed) throws InterruptedException {
+        for (Long id : ids) {
+            checkInterrupted();
+            try {
+                propertyService.getPropertyById(id);
+                warmed.incrementAndGet();
+            } catch (ResourceNotFoundException e) {
+                // Deleted since the catalog loaded
+            }
+        }
+        return true;
+    }
+
+    private boolean loadListingPages(AtomicInteger warmed) throws InterruptedException {
+        for (int page = 1; page <= listingPages; page++) {
+            checkInterrupted();
+            PaginatedResponse<PropertyResponse> response = propertyService.getAllProperties(listingPage(page));
+            warmed.incrementAndGet();
+            if (page >= response.getTotalPages()) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    // One of each filter and sort the search form can send, built from a real listing so they match rows
+    private boolean runSearches(AtomicInteger warmed) throws InterruptedException {
+        List<SearchRequest> requests = syntheticSearches();
+        for (SearchRequest request : requests) {
+            checkInterrupted();
+            propertyService.getAllProperties(request);
+            propertyService.getFacets(request);
+            warmed.incrementAndGet();
+        }
+        for (int i = 0; i < iterations; i++) {
+            checkInterrupted();
+            requests.forEach(PropertyFilter::from);
+        }
+        return true;
+    }
+
+    private List<SearchRequest> syntheticSearches() {
+        List<SearchRequest> requests = new ArrayList<>();
+        requests.add(listingPage(1));
+        Optional<PropertyDocument> sample = topPropertyIds().stream().findFirst().flatMap(propertyCatalog::get);
+        if (sample.isEmpty()) {
+            return requests;
+        }
+        PropertyDocument doc = sample.get();
+
+        SearchRequest byLocation = listingPage(1);
+        byLocation.setLocation(doc.getCity());
+        requests.add(byLocation);
+
+        SearchRequest byType = listingPage(1);
+        byType.setPropertyType(doc.getPropertyType());
+        byType.setSortBy("priceLow");
+        requests.add(byType);
+
+        if (doc.getPrice() != null) {
+            SearchRequest byPrice = listingPage(1);
+            byPrice.setPriceRange("0-" + doc.getPrice().toBigInteger());
+            byPrice.setBedrooms("2+");
+            byPrice.setSortBy("priceHigh");
+            requests.add(byPrice);
+        }
+
+        if (doc.getTitle() != null && !doc.getTitle().isBlank()) {
+            SearchRequest byText = listingPage(1);
+            byText.setSearch(doc.getTitle().trim().split("\\s+")[0]);
+            byText.setSortBy("relevance");
+            requests.add(byText);
+        }
+
+        if (doc.hasLocation()) {
+            SearchRequest byDistance = listingPage(1);
+            byDistance.setLat(doc.getLatitude());
+            byDistance.setLng(doc.getLongitude());
+            byDistance.setRadiusKm(10.0);
+            byDistance.setSortBy("distance");
+            requests.add(byDistance);
+        }
+        return requests;
+    }
+
+    // A signed token for a principal that does not exist; only the token handling is exercised
+    private boolean validateTokens(AtomicInteger warmed) throws InterruptedException {
+        UserPrincipal principal = new UserPrincipal(0L, "warmup", "warmup", "warmup@localhost", "", List.of());
+        Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        for (int i = 0; i < iterations; i++) {
+            checkInterrupted();
+            String token = jwtTokenProvider.generateToken(authentication);
+            if (!jwtTokenProvider.validateToken(token)) {
+                throw new IllegalStateException("Freshly issued token did not validate");
+            }
+            jwtTokenProvider.getUserIdFromJWT(token);
+            warmed.incrementAndGet();
+        }
+        return true;
+    }
+
+    private boolean serializeResponses(AtomicInteger warmed) throws Exception {
+        ApiResponse<List<PropertyResponse>> featured = ApiResponse.success(propertyService.getFeaturedProperties());
+        ApiResponse<PaginatedResponse<PropertyResponse>> listing = ApiResponse.success(
+            propertyService.getAllProperties(listingPage(1)));
+        for (int i = 0; i < iterations; i++) {
+            checkInterrupted();
+            objectMapper.writeValueAsBytes(featured);
+            objectMapper.writeValueAsBytes(listing);
+            warmed.incrementAndGet();
+        }
+        return true;
+    }
+
+    // Real requests against the embedded server initialise the dispatcher servlet, the filter chain and the
+    // pre-serialized response cache, plain and gzipped
+    private boolean replayRequests(List<Long> topIds, AtomicInteger warmed) throws Exception {
+        if (!(applicationContext instanceof WebServerApplicationContext webContext)
+                || webContext.getWebServer() == null || webContext.getWebServer().getPort() <= 0) {
+            return false;
+        }
+        String base = "http://localhost:" + webContext.getWebServer().getPort();
+        List<String> paths = new ArrayList<>(List.of("/api/properties", "/api/properties/featured"));
+        topIds.stream().limit(HTTP_DETAIL_PATHS).forEach(id -> paths.add("/api/properties/" + id));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(HTTP_TIMEOUT).build();
+        for (String path : paths) {
+            for (boolean gzip : new boolean[] {false, true}) {
+                checkInterrupted();
+                HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(base + path)).timeout(HTTP_TIMEOUT).GET();
+                if (gzip) {
+                    request.header("Accept-Encoding", "gzip");
+                }
+                HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 500) {
+                    throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+                }
+                warmed.incrementAndGet();
+            }
+        }
+        return true;
+    }
+
+    private static SearchRequest listingPage(int page) {
+        SearchRequest request = new SearchRequest();
+        request.setPage(page);
+        request.setLimit(LISTING_PAGE_SIZE);
+        request.setApproximateTotal(false);
+        return request;
+    }
+
+    private static void checkInterrupted() throws InterruptedException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        // False when there is nothing to warm in this environment
+        boolean run(AtomicInteger warmed) throws Exception;
+    }
+
+    private static final class WarmupTask implements Callable<Void> {
+        private final String name;
+        private final Step step;
+        private final AtomicInteger warmed = new AtomicInteger();
+        private volatile String status = "running";
+        private volatile long durationMs;
+
+        private WarmupTask(String name, Step step) {
+            this.name = name;
+            this.step = step;
+        }
+
+        @Override
+        public Void call() {
+            long start = System.currentTimeMillis();
+            try {
+                status = step.run(warmed) ? "completed" : "skipped";
+            } catch (InterruptedException e) {
+                status = "timed out";
+            } catch (Exception e) {
+                status = "failed: " + e.getMessage();
+                log.warn("Warm-up task {} failed", name, e);
+            } finally {
+                durationMs = System.currentTimeMillis() - start;
+            }
+            return null;
+        }
+    }
+}
@@ -14,11 +14,21 @@ public class Constants {
     };
     
     public static final String[] PROPERTY_TYPES = {
-        "House", "Apartment", "Condo", "Townhouse", "Villa",
+        "House", "Farm house", "Flat", "Apartment", "Condo", "Townhouse", "Villa",
         "Studio Apartment", "Penthouse", "Loft", "Row House",
         "Bungalow", "Independent House"
     };
     
+    // Minimum bedroom options offered by the search sidebar ("1+" ... "5+")
+    public static final int[] BEDROOM_FACETS = {1, 2, 3, 4, 5};
+    
+    // Lower bounds of the price histogram buckets in rupees; the last bucket is open-ended
+    public static final long[] PRICE_HISTOGRAM_BOUNDS = {
+        0L, 2_500_000L, 5_000_000L, 10_000_000L, 20_000_000L, 50_000_000L
+    };
+    
+    public static final int MAX_CITY_FACETS = 50;
+    
     public static final String[] PROPERTY_STATUS = {
         "Available", "Sold", "Pending"
     };
@@ -0,0 +1,148 @@
+package com.soham.realty.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.soham.realty.SohamRealtyApplication;
+import com.soham.realty.dto.request.SearchRequest;
+import com.soham.realty.dto.response.PaginatedResponse;
+import com.soham.realty.dto.response.PropertyResponse;
+import com.soham.realty.entity.Property;
+import com.soham.realty.repository.PropertyRepository;
+import com.soham.realty.search.PropertyCatalog;
+import com.soham.realty.search.PropertyCountCache;
+import com.soham.realty.search.PropertySearchResultCache;
+import com.soham.realty.service.PropertyService;
+
+/**
+ * Compares the JPA specification listing path with the columnar in-memory engine on an H2 catalog.
+ * {@code listing} clears the result and count caches on every call; {@code cachedListing} shows the
+ * hit path that repeat requests take in production.
+ *
+ * Run with:
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.soham.realty.benchmark.PropertyListingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyListingBenchmark {
+
+    private static final String[] TYPES = {"House", "Flat", "Villa", "Apartment", "Bungalow"};
+    private static final String[] CITIES = {"Pune", "Mumbai", "Nashik", "Nagpur", "Thane"};
+
+    @Param({"jpa", "columnar"})
+    public String engine;
+
+    @Param({"10000"})
+    public int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private PropertyService propertyService;
+    private PropertyCountCache propertyCountCache;
+    private PropertySearchResultCache propertySearchResultCache;
+    private List<SearchRequest> requests;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(SohamRealtyApplication.class,
+            "--app.search.engine=" + engine,
+            "--spring.datasource.url=jdbc:h2:mem:bench-" + engine + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+            "--spring.jpa.properties.hibernate.generate_statistics=false",
+            "--server.port=0",
+            "--logging.level.root=WARN");
+
+        PropertyRepository repository = context.getBean(PropertyRepository.class);
+        Random random = new Random(42);
+        List<Property> batch = new ArrayList<>();
+        for (int i = 0; i < catalogSize; i++) {
+            Property property = new Property();
+            property.setTitle("Benchmark Property " + i);
+            property.setPrice(BigDecimal.valueOf(1_000_000L + random.nextInt(50_000_000)));
+            property.setDescription("Generated listing " + i);
+            property.setAddress(i + " Benchmark Road");
+            property.setCity(CITIES[random.nextInt(CITIES.length)]);
+            property.setState("Maharashtra");
+            property.setZip(String.valueOf(411000 + random.nextInt(100)));
+            property.setBedrooms(random.nextInt(6));
+            property.setPropertyType(TYPES[random.nextInt(TYPES.length)]);
+            property.setCreatedAt(LocalDateTime.now().minusMinutes(i));
+            batch.add(property);
+            if (batch.size() == 500) {
+                repository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        repository.saveAll(batch);
+        context.getBean(PropertyCatalog.class).load();
+
+        propertyService = context.getBean(PropertyService.class);
+        propertyCountCache = context.getBean(PropertyCountCache.class);
+        propertySearchResultCache = context.getBean(PropertySearchResultCache.class);
+        requests = new ArrayList<>();
+        String[] sorts = {"newest", "priceLow", "priceHigh"};
+        for (int i = 0; i < 30; i++) {
+            SearchRequest request = new SearchRequest();
+            request.setPropertyType(TYPES[i % TYPES.length]);
+            request.setBedrooms((i % 4) + "+");
+            request.setPriceRange("2000000-" + (10_000_000 + i * 1_000_000));
+            request.setLocation(i % 2 == 0 ? CITIES[i % CITIES.length] : null);
+            request.setSortBy(sorts[i % sorts.length]);
+            request.setPage(1 + i % 5);
+            request.setLimit(9);
+            requests.add(request);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PaginatedResponse<PropertyResponse> listing() {
+        // Cold results and totals: measure the filter work, not the caches in front of it
+        propertySearchResultCache.clear();
+        propertyCountCache.clear();
+        SearchRequest request = requests.get(next++ % requests.size());
+        return propertyService.getAllProperties(request);
+    }
+
+    @Benchmark
+    public PaginatedResponse<PropertyResponse> cachedListing() {
+        // The same 30 requests with the caches left warm, so nearly every call is a result-cache hit
+        SearchRequest request = requests.get(next++ % requests.size());
+        return propertyService.getAllProperties(request);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PropertyListingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
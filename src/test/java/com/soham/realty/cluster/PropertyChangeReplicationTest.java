@@ -0,0 +1,134 @@
+package com.soham.realty.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.soham.realty.SohamRealtyApplication;
+import com.soham.realty.config.CacheConfig;
+import com.soham.realty.dto.request.PropertyRequest;
+import com.soham.realty.dto.response.PropertyResponse;
+import com.soham.realty.exception.ResourceNotFoundException;
+import com.soham.realty.service.PropertyService;
+
+/**
+ * Two instances sharing one database: a write on one must reach the other's caches within the
+ * staleness bound, and only for the listing that changed.
+ */
+class PropertyChangeReplicationTest {
+
+    private static final long POLL_INTERVAL_MS = 100;
+    // One poll interval plus the time to reload the row and apply it, with room for a slow build machine
+    private static final long STALENESS_BOUND_MS = 2_000;
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        // The first instance creates the schema, the second attaches to it
+        nodeA = start("a", "create-drop");
+        nodeB = start("b", "none");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    private static ConfigurableApplicationContext start(String nodeId, String ddlAuto) {
+        // Arguments, not default properties, so they win over the test application.properties
+        return new SpringApplicationBuilder(SohamRealtyApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:replication;MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+                "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "--app.cluster.sync.enabled=true",
+                "--app.cluster.sync.poll-interval-ms=" + POLL_INTERVAL_MS,
+                "--app.cluster.node-id=" + nodeId);
+    }
+
+    @Test
+    void writesOnOneInstanceReachTheOtherWithinTheBound() {
+        PropertyService serviceA = nodeA.getBean(PropertyService.class);
+        PropertyService serviceB = nodeB.getBean(PropertyService.class);
+
+        Long changedId = serviceA.createProperty(request("Riverside villa")).getId();
+        Long untouchedId = serviceA.createProperty(request("Hilltop villa")).getId();
+        awaitWithinBound(() -> serviceB.getPropertyETag(untouchedId).isPresent());
+
+        // Warm the second instance's caches
+        assertEquals("Riverside villa", serviceB.getPropertyById(changedId).getTitle());
+        assertEquals("Hilltop villa", serviceB.getPropertyById(untouchedId).getTitle());
+        assertEquals(2, serviceB.getFeaturedProperties().size());
+
+        serviceA.updateProperty(changedId, request("Riverside villa, renovated"));
+        awaitWithinBound(() -> "Riverside villa, renovated".equals(serviceB.getPropertyById(changedId).getTitle()));
+        awaitWithinBound(() -> serviceB.getFeaturedProperties().stream()
+            .anyMatch(p -> "Riverside villa, renovated".equals(p.getTitle())));
+        assertEquals(serviceA.getPropertyETag(changedId), serviceB.getPropertyETag(changedId));
+        assertEquals(serviceA.getCatalogETag("list"), serviceB.getCatalogETag("list"));
+
+        // Only the changed listing was touched on the second instance
+        assertTrue(detailsCache(nodeB).asMap().containsKey(untouchedId));
+
+        serviceA.deleteProperty(changedId);
+        awaitWithinBound(() -> serviceB.getPropertyETag(changedId).isEmpty());
+        // The catalog is updated ahead of the caches, so the eviction can trail it by a moment
+        awaitWithinBound(() -> !detailsCache(nodeB).asMap().containsKey(changedId));
+        assertThrows(ResourceNotFoundException.class, () -> serviceB.getPropertyById(changedId));
+        // The featured entry is refreshed in the background, so it may trail the catalog briefly
+        awaitWithinBound(() -> serviceB.getFeaturedProperties().stream()
+            .map(PropertyResponse::getId)
+            .toList()
+            .equals(List.of(untouchedId)));
+    }
+
+    private static void awaitWithinBound(BooleanSupplier condition) {
+        long start = System.currentTimeMillis();
+        while (!condition.getAsBoolean()) {
+            long elapsed = System.currentTimeMillis() - start;
+            assertTrue(elapsed < STALENESS_BOUND_MS, "Still stale after " + elapsed + " ms");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<Object, Object> detailsCache(ConfigurableApplicationContext node) {
+        return (Cache<Object, Object>) node.getBean(CacheManager.class)
+            .getCache(CacheConfig.PROPERTY_DETAILS).getNativeCache();
+    }
+
+    private static PropertyRequest request(String title) {
+        PropertyRequest request = new PropertyRequest();
+        request.setTitle(title);
+        request.setPrice(new BigDecimal("7500000"));
+        request.setDescription("Three bedroom villa with a garden");
+        request.setAddress("12 River Road");
+        request.setCity("Pune");
+        request.setState("Maharashtra");
+        request.setZip("411001");
+        request.setPropertyType("Villa");
+        request.setFeatured(true);
+        return request;
+    }
+}
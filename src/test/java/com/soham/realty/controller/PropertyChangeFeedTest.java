@@ -0,0 +1,142 @@
+package com.soham.realty.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soham.realty.dto.request.PropertyRequest;
+import com.soham.realty.repository.PropertyRepository;
+import com.soham.realty.search.PropertyCatalog;
+import com.soham.realty.service.PropertyService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PropertyChangeFeedTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PropertyCatalog propertyCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        propertyRepository.deleteAll();
+        // Like the scheduled cleanup, keep the newest row so later tokens stay comparable
+        jdbcTemplate.update("DELETE FROM property_change_log WHERE id < (SELECT MAX(id) FROM property_change_log)");
+        propertyCatalog.load();
+    }
+
+    @Test
+    void returnsCurrentStateAndTombstonesSinceTheToken() throws Exception {
+        JsonNode start = changes(null, 100);
+        assertEquals(true, start.path("resyncRequired").asBoolean());
+        String token = start.path("nextToken").asText();
+
+        Long kept = propertyService.createProperty(request("Lakeside villa")).getId();
+        Long removed = propertyService.createProperty(request("Garden flat")).getId();
+        propertyService.updateProperty(kept, request("Lakeside villa, renovated"));
+        propertyService.deleteProperty(removed);
+
+        JsonNode page = changes(token, 100);
+        assertEquals(false, page.path("resyncRequired").asBoolean());
+        assertEquals(false, page.path("hasMore").asBoolean());
+        assertEquals(1, page.path("changed").size());
+        assertEquals(kept.longValue(), page.path("changed").get(0).path("id").asLong());
+        assertEquals("Lakeside villa, renovated", page.path("changed").get(0).path("title").asText());
+        assertEquals(1, page.path("deleted").size());
+        assertEquals(removed.longValue(), page.path("deleted").get(0).path("id").asLong());
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM property_change_log WHERE property_id = ? AND deleted = TRUE", Integer.class, removed));
+
+        // Nothing new: same token back, empty page
+        JsonNode idle = changes(page.path("nextToken").asText(), 100);
+        assertEquals(page.path("nextToken").asText(), idle.path("nextToken").asText());
+        assertEquals(0, idle.path("changed").size());
+        assertEquals(0, idle.path("deleted").size());
+    }
+
+    @Test
+    void paginatesByToken() throws Exception {
+        String token = changes(null, 100).path("nextToken").asText();
+        propertyService.createProperty(request("First"));
+        propertyService.createProperty(request("Second"));
+
+        JsonNode first = changes(token, 1);
+        assertEquals(true, first.path("hasMore").asBoolean());
+        assertEquals("First", first.path("changed").get(0).path("title").asText());
+        JsonNode second = changes(first.path("nextToken").asText(), 1);
+        assertEquals(false, second.path("hasMore").asBoolean());
+        assertEquals("Second", second.path("changed").get(0).path("title").asText());
+    }
+
+    @Test
+    void asksForResyncOnceTheTokenIsPastRetention() throws Exception {
+        String token = changes(null, 100).path("nextToken").asText();
+        propertyService.createProperty(request("First"));
+        propertyService.createProperty(request("Second"));
+        jdbcTemplate.update("DELETE FROM property_change_log WHERE id < (SELECT MAX(id) FROM property_change_log)");
+
+        assertEquals(true, changes(token, 100).path("resyncRequired").asBoolean());
+    }
+
+    @Test
+    void rejectsAMalformedToken() throws Exception {
+        mockMvc.perform(get("/api/properties/changes").param("since", "not-a-token"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/properties/changes"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.changed", hasSize(0)));
+    }
+
+    private JsonNode changes(String since, int limit) throws Exception {
+        var request = get("/api/properties/changes").param("limit", Integer.toString(limit));
+        if (since != null) {
+            request.param("since", since);
+        }
+        String body = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).path("data");
+    }
+
+    private static PropertyRequest request(String title) {
+        PropertyRequest request = new PropertyRequest();
+        request.setTitle(title);
+        request.setPrice(new BigDecimal("5500000"));
+        request.setDescription("Two bedroom home");
+        request.setAddress("9 Hill Road");
+        request.setCity("Pune");
+        request.setState("Maharashtra");
+        request.setZip("411001");
+        request.setPropertyType("Flat");
+        request.setFeatured(false);
+        return request;
+    }
+}
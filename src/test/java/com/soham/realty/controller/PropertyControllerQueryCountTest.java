@@ -0,0 +1,197 @@
+package com.soham.realty.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.soham.realty.entity.Property;
+import com.soham.realty.entity.PropertyImage;
+import com.soham.realty.repository.PropertyRepository;
+import com.soham.realty.search.PropertyCatalog;
+import com.soham.realty.search.PropertyCountCache;
+import com.soham.realty.search.PropertySearchResultCache;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PropertyControllerQueryCountTest {
+
+    private static final int PROPERTY_COUNT = 60;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PropertyCountCache propertyCountCache;
+
+    @Autowired
+    private PropertySearchResultCache propertySearchResultCache;
+
+    @Autowired
+    private PropertyCatalog propertyCatalog;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PROPERTY_COUNT; i++) {
+            Property property = new Property();
+            property.setTitle("Test Property " + i);
+            property.setPrice(new BigDecimal(100000 + i * 1000));
+            property.setDescription("Spacious home number " + i);
+            property.setAddress(i + " Test Street");
+            property.setCity("Pune");
+            property.setState("Maharashtra");
+            property.setZip("411001");
+            property.setBedrooms(i % 5);
+            property.setPropertyType("House");
+            property.setImageUrl("/api/files/p" + i + "_0.jpg");
+            for (int j = 0; j < 3; j++) {
+                PropertyImage image = new PropertyImage();
+                image.setImageUrl("/api/files/p" + i + "_" + j + ".jpg");
+                image.setImageOrder(j);
+                property.addImage(image);
+            }
+            propertyRepository.save(property);
+        }
+
+        // Rows are written through the repository, so no change events reach the caches
+        propertySearchResultCache.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        propertyRepository.deleteAll();
+        propertyCatalog.load();
+    }
+
+    @Test
+    void listingQueryCountDoesNotGrowWithPageSize() throws Exception {
+        long smallPage = countStatementsFor(9);
+        long largePage = countStatementsFor(50);
+
+        assertEquals(smallPage, largePage, "Listing query count must not depend on page size");
+        assertTrue(largePage <= 3, "Expected page, count and image queries only but was " + largePage);
+    }
+
+    @Test
+    void laterPagesReuseCachedTotal() throws Exception {
+        propertyCountCache.clear();
+        mockMvc.perform(get("/api/properties").param("page", "1").param("limit", "10"))
+            .andExpect(jsonPath("$.total").value(PROPERTY_COUNT));
+
+        statistics.clear();
+        mockMvc.perform(get("/api/properties").param("page", "2").param("limit", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(PROPERTY_COUNT))
+            .andExpect(jsonPath("$.approximate").value(false));
+        assertEquals(2, statistics.getPrepareStatementCount(), "Page 2 should run only the page and image queries");
+    }
+
+    @Test
+    void listingReturnsImagesInOrder() throws Exception {
+        mockMvc.perform(get("/api/properties").param("sortBy", "priceLow").param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].title").value("Test Property 0"))
+            .andExpect(jsonPath("$.data[0].images.length()").value(3))
+            .andExpect(jsonPath("$.data[0].images[0]").value("/api/files/p0_0.jpg"))
+            .andExpect(jsonPath("$.data[0].images[2]").value("/api/files/p0_2.jpg"))
+            // The full view keeps its shape: unset fields are sent as null, not left out
+            .andExpect(jsonPath("$.data[0].videoLink").hasJsonPath());
+    }
+
+    @Test
+    void cardViewSelectsOnlyCardColumns() throws Exception {
+        propertyCountCache.clear();
+        statistics.clear();
+        mockMvc.perform(get("/api/properties").param("view", "card").param("sortBy", "priceLow").param("limit", "60"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(PROPERTY_COUNT))
+            .andExpect(jsonPath("$.data[0].title").value("Test Property 0"))
+            .andExpect(jsonPath("$.data[0].images.length()").value(1))
+            .andExpect(jsonPath("$.data[0].images[0]").value("/api/files/p0_0.jpg"))
+            .andExpect(jsonPath("$.data[0].description").doesNotExist());
+        assertEquals(1, statistics.getPrepareStatementCount(), "Card view should not touch property_images");
+    }
+
+    @Test
+    void revalidatedDetailIsAnsweredWithoutQueries() throws Exception {
+        // Rows were saved through the repository; the catalog only sees them after a reload
+        propertyCatalog.load();
+        Long id = propertyRepository.findAll().get(0).getId();
+        String etag = mockMvc.perform(get("/api/properties/" + id))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", containsString("stale-while-revalidate")))
+            .andReturn().getResponse().getHeader("ETag");
+
+        statistics.clear();
+        mockMvc.perform(get("/api/properties/" + id).header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", etag));
+        assertEquals(0, statistics.getPrepareStatementCount(), "A matching ETag must not load the property");
+    }
+
+    @Test
+    void gzipBodyCarriesItsOwnETag() throws Exception {
+        propertyCatalog.load();
+        String detail = "/api/properties/" + propertyRepository.findAll().get(0).getId();
+        String plain = mockMvc.perform(get(detail))
+            .andExpect(header().doesNotExist("Content-Encoding"))
+            .andReturn().getResponse().getHeader("ETag");
+        String gzipped = mockMvc.perform(get(detail).header("Accept-Encoding", "gzip, deflate"))
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(plain, gzipped);
+
+        // Each encoding revalidates against its own tag only
+        mockMvc.perform(get(detail).header("Accept-Encoding", "gzip").header("If-None-Match", gzipped))
+            .andExpect(status().isNotModified());
+        mockMvc.perform(get(detail).header("If-None-Match", gzipped))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", plain));
+
+        // q=0 is a refusal; a weighted wildcard still admits gzip
+        mockMvc.perform(get(detail).header("Accept-Encoding", "gzip;q=0, identity"))
+            .andExpect(header().doesNotExist("Content-Encoding"))
+            .andExpect(header().string("ETag", plain));
+        mockMvc.perform(get(detail).header("Accept-Encoding", "*;q=0.5"))
+            .andExpect(header().string("Content-Encoding", "gzip"));
+    }
+
+    private long countStatementsFor(int limit) throws Exception {
+        // Measure the cold path; a cached total would hide the count query
+        propertyCountCache.clear();
+        statistics.clear();
+        mockMvc.perform(get("/api/properties").param("limit", String.valueOf(limit)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(limit));
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,188 @@
+package com.soham.realty.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soham.realty.entity.Property;
+import com.soham.realty.repository.PropertyRepository;
+import com.soham.realty.search.PropertyCatalog;
+import com.soham.realty.search.PropertyDocument;
+import com.soham.realty.search.PropertySort;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PropertyCursorPaginationTest {
+
+    private static final int PROPERTY_COUNT = 11;
+    private static final int PAGE_SIZE = 3;
+    private static final LocalDateTime LISTED = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PropertyCatalog propertyCatalog;
+
+    @BeforeEach
+    void setUp() {
+        // Pairs share a listing time and thirds share a price, so most page boundaries fall inside a tie
+        for (int i = 0; i < PROPERTY_COUNT; i++) {
+            propertyRepository.save(villa("Villa " + i, LISTED.minusHours(i / 2), new BigDecimal(5_000_000 + (i % 3) * 500_000)));
+        }
+        propertyCatalog.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        propertyRepository.deleteAll();
+        propertyCatalog.load();
+    }
+
+    @Test
+    void walksEverySortOrderWithoutRepeatsOrGaps() throws Exception {
+        for (String sortBy : List.of("newest", "priceLow", "priceHigh")) {
+            List<Long> expected = propertyRepository.findAll().stream()
+                .map(PropertyDocument::from)
+                .sorted(PropertySort.from(sortBy).comparator())
+                .map(PropertyDocument::getId)
+                .collect(Collectors.toList());
+
+            assertEquals(expected, walk(sortBy, null), sortBy);
+            // The projected view seeks on the same keys
+            assertEquals(expected, walk(sortBy, "id,title,price"), sortBy + " (projected)");
+        }
+    }
+
+    @Test
+    void walksRelevanceResultsFromTheSearchIndex() throws Exception {
+        List<Long> ids = walk(cursor -> listing(cursor).param("search", "villa").param("sortBy", "relevance"));
+
+        assertEquals(PROPERTY_COUNT, ids.size());
+        assertEquals(PROPERTY_COUNT, new HashSet<>(ids).size());
+    }
+
+    @Test
+    void keepsItsPlaceWhenListingsAreAddedBetweenPages() throws Exception {
+        List<Long> seen = new ArrayList<>();
+        JsonNode page = page(listing("").param("sortBy", "priceLow"));
+        seen.addAll(ids(page));
+
+        // Sorting before the cursor: never served. Tied with the last row but with a higher id, and
+        // after every row: both still to come
+        propertyRepository.save(villa("Cheapest villa", LISTED, new BigDecimal("1000000")));
+        Long tied = propertyRepository.save(villa("Tied villa", LISTED, new BigDecimal("5000000"))).getId();
+        Long priciest = propertyRepository.save(villa("Priciest villa", LISTED, new BigDecimal("9000000"))).getId();
+        propertyCatalog.load();
+
+        while (page.get("hasMore").asBoolean()) {
+            page = page(listing(page.get("nextCursor").asText()).param("sortBy", "priceLow"));
+            seen.addAll(ids(page));
+        }
+
+        assertEquals(PROPERTY_COUNT + 2, seen.size());
+        assertEquals(seen.size(), new HashSet<>(seen).size());
+        assertTrue(seen.contains(tied));
+        assertEquals(priciest, seen.get(seen.size() - 1));
+    }
+
+    @Test
+    void rejectsMalformedAndMismatchedCursors() throws Exception {
+        mockMvc.perform(get("/api/properties").param("cursor", "not-a-cursor"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Invalid cursor"));
+        // Well-formed, but the key is not a timestamp
+        mockMvc.perform(get("/api/properties").param("cursor", encode("v1|NEWEST|yesterday|7")))
+            .andExpect(status().isBadRequest());
+
+        String priceCursor = page(listing("").param("sortBy", "priceLow"))
+            .get("nextCursor").asText();
+        mockMvc.perform(get("/api/properties").param("sortBy", "newest").param("cursor", priceCursor))
+            .andExpect(status().isBadRequest());
+    }
+
+    private List<Long> walk(String sortBy, String fields) throws Exception {
+        return walk(cursor -> {
+            MockHttpServletRequestBuilder request = listing(cursor).param("sortBy", sortBy);
+            return fields != null ? request.param("fields", fields) : request;
+        });
+    }
+
+    // Follows nextCursor from the first page to the last
+    private List<Long> walk(Function<String, MockHttpServletRequestBuilder> request) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = "";
+        for (int pages = 0; cursor != null; pages++) {
+            assertTrue(pages <= PROPERTY_COUNT, "Cursor pagination did not terminate");
+            JsonNode page = page(request.apply(cursor));
+            ids.addAll(ids(page));
+            cursor = page.get("hasMore").asBoolean() ? page.get("nextCursor").asText() : null;
+        }
+        return ids;
+    }
+
+    private static MockHttpServletRequestBuilder listing(String cursor) {
+        return get("/api/properties").param("cursor", cursor).param("limit", String.valueOf(PAGE_SIZE));
+    }
+
+    private JsonNode page(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<Long> ids(JsonNode page) {
+        List<Long> ids = new ArrayList<>();
+        page.get("data").forEach(row -> ids.add(row.get("id").asLong()));
+        return ids;
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Property villa(String title, LocalDateTime createdAt, BigDecimal price) {
+        Property property = new Property();
+        property.setTitle(title);
+        property.setPrice(price);
+        property.setDescription("Listing for cursor pagination");
+        property.setAddress("5 Koregaon Park");
+        property.setCity("Pune");
+        property.setState("Maharashtra");
+        property.setZip("411001");
+        property.setPropertyType("Villa");
+        property.setStatus("Available");
+        property.setCreatedAt(createdAt);
+        return property;
+    }
+}
@@ -0,0 +1,79 @@
+package com.soham.realty.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.soham.realty.entity.Property;
+import com.soham.realty.repository.PropertyRepository;
+import com.soham.realty.search.PropertyCatalog;
+import com.soham.realty.search.PropertySearchResultCache;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PropertyDistanceSortTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PropertyCatalog propertyCatalog;
+
+    @Autowired
+    private PropertySearchResultCache propertySearchResultCache;
+
+    @BeforeEach
+    void setUp() {
+        propertyRepository.save(listing("Pune bungalow", 18.52, 73.86));
+        propertyRepository.save(listing("Manhattan loft", 40.71, -74.01));
+        propertyCatalog.load();
+        propertySearchResultCache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        propertyRepository.deleteAll();
+        propertyCatalog.load();
+    }
+
+    @Test
+    void eachCenterGetsItsOwnOrderingWithoutARadius() throws Exception {
+        mockMvc.perform(get("/api/properties").param("sortBy", "distance").param("lat", "18.5").param("lng", "73.9"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].title").value("Pune bungalow"));
+
+        // Same filters, different center: must not be answered from the first request's cache entry
+        mockMvc.perform(get("/api/properties").param("sortBy", "distance").param("lat", "40.7").param("lng", "-74.0"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].title").value("Manhattan loft"))
+            .andExpect(jsonPath("$.data[1].title").value("Pune bungalow"));
+    }
+
+    private static Property listing(String title, double latitude, double longitude) {
+        Property property = new Property();
+        property.setTitle(title);
+        property.setPrice(new BigDecimal("6500000"));
+        property.setDescription("Listing for distance sorting");
+        property.setAddress("1 Main Road");
+        property.setCity("Pune");
+        property.setState("Maharashtra");
+        property.setZip("411001");
+        property.setPropertyType("House");
+        property.setLatitude(latitude);
+        property.setLongitude(longitude);
+        return property;
+    }
+}
@@ -0,0 +1,114 @@
+package com.soham.realty.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.soham.realty.dto.request.PropertyRequest;
+import com.soham.realty.entity.User;
+import com.soham.realty.repository.PropertyRepository;
+import com.soham.realty.repository.UserRepository;
+import com.soham.realty.search.PropertyCatalog;
+import com.soham.realty.security.JwtTokenProvider;
+import com.soham.realty.security.UserPrincipal;
+import com.soham.realty.service.PropertyService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PropertyExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PropertyCatalog propertyCatalog;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        User admin = new User();
+        admin.setName("Export Admin");
+        admin.setUsername("export-admin");
+        admin.setEmail("export-admin@example.com");
+        admin.setPassword("unused");
+        admin.setRole("ADMIN");
+        UserPrincipal principal = UserPrincipal.create(userRepository.save(admin));
+        adminToken = tokenProvider.generateToken(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        propertyRepository.deleteAll();
+        userRepository.deleteAll();
+        propertyCatalog.load();
+    }
+
+    @Test
+    void streamsTheExportToAnAdminAcrossTheAsyncDispatch() throws Exception {
+        propertyService.createProperty(listing("Lakeside villa"));
+        propertyService.createProperty(listing("Garden flat"));
+
+        MvcResult started = mockMvc.perform(get("/api/properties/export")
+                .param("format", "csv")
+                .header("Authorization", "Bearer " + adminToken))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertTrue(body.contains("Lakeside villa"));
+        assertTrue(body.contains("Garden flat"));
+        // Header row plus one line per listing
+        assertEquals(3, body.lines().count());
+    }
+
+    @Test
+    void refusesTheExportWithoutAnAdminToken() throws Exception {
+        mockMvc.perform(get("/api/properties/export"))
+            .andExpect(status().isForbidden());
+    }
+
+    private static PropertyRequest listing(String title) {
+        PropertyRequest request = new PropertyRequest();
+        request.setTitle(title);
+        request.setPrice(new BigDecimal("5500000"));
+        request.setDescription("Two bedroom home");
+        request.setAddress("9 Hill Road");
+        request.setCity("Pune");
+        request.setState("Maharashtra");
+        request.setZip("411001");
+        request.setPropertyType("Flat");
+        request.setFeatured(false);
+        return request;
+    }
+}
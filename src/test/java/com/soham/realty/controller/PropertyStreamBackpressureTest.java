@@ -0,0 +1,111 @@
+package com.soham.realty.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.soham.realty.event.PropertyChangeEvent;
+import com.soham.realty.search.PropertyDocument;
+import com.soham.realty.service.PropertyStreamService;
+import com.soham.realty.service.impl.PropertyStreamServiceImpl;
+
+/**
+ * A client that stops reading must not hold up the other streams: its own queue fills, it is closed,
+ * and everyone else keeps receiving events.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"app.stream.max-pending-per-stream=64", "app.stream.sender-threads=2"})
+class PropertyStreamBackpressureTest {
+
+    private static final int CHUNK = 50;
+    // Enough to fill the socket buffers of a client that never reads, with a wide margin
+    private static final int MAX_EVENTS = 400_000;
+    private static final long WAIT_MS = 5_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PropertyStreamService propertyStreamService;
+
+    @Autowired
+    private PropertyStreamServiceImpl publisher;
+
+    @Test
+    void closesAStalledClientWithoutHoldingUpTheOthers() throws Exception {
+        AtomicInteger received = new AtomicInteger();
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/properties/stream"))
+            .header("Accept", "text/event-stream")
+            .build();
+        HttpResponse<Stream<String>> healthy = client.send(request, HttpResponse.BodyHandlers.ofLines());
+        Thread reader = new Thread(() -> {
+            try {
+                healthy.body()
+                    .filter(line -> line.equals("event:change"))
+                    .forEach(line -> received.incrementAndGet());
+            } catch (UncheckedIOException e) {
+                // Closed at the end of the test
+            }
+        });
+        reader.setDaemon(true);
+        reader.start();
+
+        try (Socket stalled = new Socket()) {
+            stalled.setReceiveBufferSize(4096);
+            stalled.connect(new InetSocketAddress("localhost", port));
+            OutputStream out = stalled.getOutputStream();
+            out.write(("GET /api/properties/stream HTTP/1.1\r\nHost: localhost\r\nAccept: text/event-stream\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            await(() -> propertyStreamService.getSubscriberCount() == 2);
+
+            // Publish in steps the healthy client keeps up with, until the stalled one is dropped
+            int published = 0;
+            while (propertyStreamService.getSubscriberCount() == 2) {
+                assertTrue(published < MAX_EVENTS, "The stalled client was never closed");
+                for (int i = 0; i < CHUNK; i++) {
+                    long id = ++published;
+                    publisher.onPropertyChange(new PropertyChangeEvent(null,
+                        PropertyDocument.builder().id(id).version(0L).featured(false).build()));
+                }
+                int expected = published;
+                await(() -> received.get() == expected);
+            }
+
+            // The healthy client is still subscribed and still receiving
+            publisher.onPropertyChange(new PropertyChangeEvent(null,
+                PropertyDocument.builder().id(0L).version(0L).featured(false).build()));
+            int expected = published + 1;
+            await(() -> received.get() == expected);
+            assertEquals(1, propertyStreamService.getSubscriberCount());
+        } finally {
+            healthy.body().close();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+}
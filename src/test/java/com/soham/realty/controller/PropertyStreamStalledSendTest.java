@@ -0,0 +1,130 @@
+package com.soham.realty.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.soham.realty.event.PropertyChangeEvent;
+import com.soham.realty.search.PropertyDocument;
+import com.soham.realty.service.PropertyStreamService;
+import com.soham.realty.service.impl.PropertyStreamServiceImpl;
+
+/**
+ * Stalled clients that outnumber the sender threads must not stop the healthy streams. The queue
+ * limit is set high so every stalled stream keeps its sender thread blocked in a write instead of
+ * being closed for falling behind first.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"app.stream.max-pending-per-stream=1000000", "app.stream.sender-threads=2",
+        "app.stream.send-timeout=PT1S"})
+class PropertyStreamStalledSendTest {
+
+    private static final int STALLED_CLIENTS = 3;
+    private static final int CHUNK = 50;
+    // Enough to fill the socket buffers of a client that never reads, with a wide margin
+    private static final int MAX_EVENTS = 400_000;
+    private static final long WAIT_MS = 5_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PropertyStreamService propertyStreamService;
+
+    @Autowired
+    private PropertyStreamServiceImpl publisher;
+
+    @Test
+    void keepsStreamingWhileEverySenderThreadIsStuckInAWrite() throws Exception {
+        AtomicInteger received = new AtomicInteger();
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/properties/stream"))
+            .header("Accept", "text/event-stream")
+            .build();
+        HttpResponse<Stream<String>> healthy = client.send(request, HttpResponse.BodyHandlers.ofLines());
+        Thread reader = new Thread(() -> {
+            try {
+                healthy.body()
+                    .filter(line -> line.equals("event:change"))
+                    .forEach(line -> received.incrementAndGet());
+            } catch (UncheckedIOException e) {
+                // Closed at the end of the test
+            }
+        });
+        reader.setDaemon(true);
+        reader.start();
+
+        List<Socket> stalled = new ArrayList<>();
+        try {
+            for (int i = 0; i < STALLED_CLIENTS; i++) {
+                stalled.add(openWithoutReading());
+            }
+            await(() -> propertyStreamService.getSubscriberCount() == STALLED_CLIENTS + 1);
+
+            // Once the stalled sockets fill, their writes block; the healthy client must keep up regardless
+            int published = 0;
+            while (propertyStreamService.getSubscriberCount() > 1) {
+                assertTrue(published < MAX_EVENTS, "A stalled client was never closed");
+                for (int i = 0; i < CHUNK; i++) {
+                    long id = ++published;
+                    publisher.onPropertyChange(new PropertyChangeEvent(null,
+                        PropertyDocument.builder().id(id).version(0L).featured(false).build()));
+                }
+                int expected = published;
+                await(() -> received.get() == expected);
+            }
+
+            // The stalled writes may still be blocked, yet events keep flowing
+            for (int i = 0; i < CHUNK; i++) {
+                publisher.onPropertyChange(new PropertyChangeEvent(null,
+                    PropertyDocument.builder().id(0L).version(0L).featured(false).build()));
+            }
+            int expected = published + CHUNK;
+            await(() -> received.get() == expected);
+            assertEquals(1, propertyStreamService.getSubscriberCount());
+        } finally {
+            for (Socket socket : stalled) {
+                socket.close();
+            }
+            healthy.body().close();
+        }
+    }
+
+    private Socket openWithoutReading() throws Exception {
+        Socket socket = new Socket();
+        socket.setReceiveBufferSize(4096);
+        socket.connect(new InetSocketAddress("localhost", port));
+        OutputStream out = socket.getOutputStream();
+        out.write(("GET /api/properties/stream HTTP/1.1\r\nHost: localhost\r\nAccept: text/event-stream\r\n\r\n")
+            .getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return socket;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+}
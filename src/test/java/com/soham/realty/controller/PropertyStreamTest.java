@@ -0,0 +1,129 @@
+package com.soham.realty.controller;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.soham.realty.dto.request.PropertyRequest;
+import com.soham.realty.repository.PropertyRepository;
+import com.soham.realty.search.PropertyCatalog;
+import com.soham.realty.service.PropertyService;
+
+@SpringBootTest(properties = {"app.stream.buffer-size=4", "app.stream.max-subscribers=6"})
+@AutoConfigureMockMvc
+class PropertyStreamTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+    private static final long WAIT_MS = 2_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PropertyCatalog propertyCatalog;
+
+    private final List<MvcResult> streams = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        // MockMvc never ends an async request on its own; closing it frees the subscriber slot
+        streams.forEach(stream -> stream.getRequest().getAsyncContext().complete());
+        propertyRepository.deleteAll();
+        propertyCatalog.load();
+    }
+
+    @Test
+    void pushesCommittedWritesAndResumesFromLastEventId() throws Exception {
+        MvcResult live = subscribe(null);
+        String connectedId = awaitContent(live, body -> body.contains("id:")).lines()
+            .map(EVENT_ID::matcher).filter(Matcher::find).findFirst().orElseThrow().group(1);
+
+        Long id = propertyService.createProperty(listing("Lakeside villa")).getId();
+        propertyService.deleteProperty(id);
+        String body = awaitContent(live, content -> content.contains("\"type\":\"deleted\""));
+        assertTrue(body.contains("event:change"));
+        assertTrue(body.contains("{\"type\":\"created\",\"propertyId\":" + id));
+        assertTrue(body.indexOf("\"created\"") < body.indexOf("\"deleted\""));
+
+        // A client that dropped right after connecting is sent both events on reconnect
+        String replay = awaitContent(subscribe(connectedId), content -> content.contains("\"type\":\"deleted\""));
+        assertTrue(replay.contains("\"type\":\"created\""));
+        assertFalse(replay.contains("event:resync"));
+
+        // Ids from another run, or ones that have left the buffer, get a resync
+        awaitContent(subscribe("deadbeef-1"), content -> content.contains("event:resync"));
+        for (int i = 0; i < 5; i++) {
+            propertyService.createProperty(listing("Filler " + i));
+        }
+        awaitContent(subscribe(connectedId), content -> content.contains("event:resync"));
+    }
+
+    @Test
+    void refusesStreamsBeyondTheLimit() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            subscribe(null);
+        }
+        mockMvc.perform(get("/api/properties/stream"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "30"));
+    }
+
+    private MvcResult subscribe(String lastEventId) throws Exception {
+        var builder = get("/api/properties/stream");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        MvcResult result = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        streams.add(result);
+        return result;
+    }
+
+    private static String awaitContent(MvcResult result, Predicate<String> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        String content = result.getResponse().getContentAsString();
+        while (!condition.test(content)) {
+            assertTrue(System.currentTimeMillis() < deadline, "Stream never matched; got: " + content);
+            Thread.sleep(10);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
+
+    private static PropertyRequest listing(String title) {
+        PropertyRequest request = new PropertyRequest();
+        request.setTitle(title);
+        request.setPrice(new BigDecimal("5500000"));
+        request.setDescription("Two bedroom home");
+        request.setAddress("9 Hill Road");
+        request.setCity("Pune");
+        request.setState("Maharashtra");
+        request.setZip("411001");
+        request.setPropertyType("Flat");
+        request.setFeatured(true);
+        return request;
+    }
+}
@@ -0,0 +1,210 @@
+package com.soham.realty.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.soham.realty.config.IdGeneratorMigration;
+import com.soham.realty.entity.Contact;
+import com.soham.realty.entity.Property;
+import com.soham.realty.entity.PropertyImage;
+
+@SpringBootTest
+class BatchedInsertTest {
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdGeneratorMigration idGeneratorMigration;
+
+    @BeforeEach
+    void setUp() {
+        StatementCounter.reset();
+    }
+
+    @Test
+    void propertyImagesAreInsertedAsOneBatch() {
+        Property property = newProperty("Batched images");
+        for (int i = 0; i < 5; i++) {
+            PropertyImage image = new PropertyImage();
+            image.setImageUrl("/api/files/batch_" + i + ".jpg");
+            image.setImageOrder(i);
+            property.addImage(image);
+        }
+
+        propertyRepository.save(property);
+
+        assertEquals(5, StatementCounter.rows("property_images"));
+        assertEquals(1, StatementCounter.batches("property_images"));
+        assertEquals(0, StatementCounter.singles("property_images"));
+    }
+
+    @Test
+    void contactsAreInsertedAsOneBatch() {
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Contact contact = new Contact();
+            contact.setName("Buyer " + i);
+            contact.setEmail("buyer" + i + "@example.com");
+            contact.setMessage("Interested in a visit");
+            contacts.add(contact);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> contactRepository.saveAll(contacts));
+
+        assertEquals(10, StatementCounter.rows("contacts"));
+        assertEquals(1, StatementCounter.batches("contacts"));
+        assertEquals(0, StatementCounter.singles("contacts"));
+    }
+
+    @Test
+    void migrationContinuesAfterExistingIds() {
+        Long legacyId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1000 FROM properties", Long.class);
+        jdbcTemplate.update("""
+            INSERT INTO properties (id, title, price, description, address, city, state, zip, bedrooms, bathrooms,
+                square_footage, property_type, status, featured, image_url, created_at, updated_at, version)
+            VALUES (?, 'Legacy', 100000, 'Written before the id table existed', '1 Old Road', 'Pune',
+                'Maharashtra', '411001', 2, 1, 900, 'House', 'Available', false, '', NOW(), NOW(), 0)
+            """, legacyId);
+
+        idGeneratorMigration.afterPropertiesSet();
+
+        // The next block any instance reserves starts right after the legacy row
+        assertEquals(legacyId, jdbcTemplate.queryForObject(
+            "SELECT last_value FROM id_generators WHERE sequence_name = 'properties'", Long.class));
+    }
+
+    private static Property newProperty(String title) {
+        Property property = new Property();
+        property.setTitle(title);
+        property.setPrice(new BigDecimal("2500000"));
+        property.setDescription("Two bedroom flat");
+        property.setAddress("12 Batch Street");
+        property.setCity("Pune");
+        property.setState("Maharashtra");
+        property.setZip("411001");
+        property.setPropertyType("Apartment");
+        return property;
+    }
+
+    /** Wraps the DataSource so the test can see how each INSERT reached the driver. */
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return proxy(DataSource.class, dataSource, (method, args, result) -> result instanceof Connection connection
+                        ? proxy(Connection.class, connection, (m, a, r) -> r instanceof PreparedStatement statement
+                            && m.getName().equals("prepareStatement")
+                            ? StatementCounter.wrap(statement, (String) a[0])
+                            : r)
+                        : result);
+                }
+            };
+        }
+    }
+
+    static final class StatementCounter {
+
+        private static final Map<String, AtomicInteger> ROWS = new ConcurrentHashMap<>();
+        private static final Map<String, AtomicInteger> BATCHES = new ConcurrentHashMap<>();
+        private static final Map<String, AtomicInteger> SINGLES = new ConcurrentHashMap<>();
+
+        static void reset() {
+            ROWS.clear();
+            BATCHES.clear();
+            SINGLES.clear();
+        }
+
+        static int rows(String table) {
+            return count(ROWS, table);
+        }
+
+        static int batches(String table) {
+            return count(BATCHES, table);
+        }
+
+        static int singles(String table) {
+            return count(SINGLES, table);
+        }
+
+        private static int count(Map<String, AtomicInteger> counts, String table) {
+            AtomicInteger count = counts.get(table);
+            return count != null ? count.get() : 0;
+        }
+
+        static PreparedStatement wrap(PreparedStatement statement, String sql) {
+            String normalized = sql.trim().toLowerCase(Locale.ROOT);
+            if (!normalized.startsWith("insert into ")) {
+                return statement;
+            }
+            String table = normalized.substring("insert into ".length()).split("[\\s(]", 2)[0];
+            return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+                switch (method.getName()) {
+                    case "addBatch" -> ROWS.computeIfAbsent(table, k -> new AtomicInteger()).incrementAndGet();
+                    case "executeBatch" -> BATCHES.computeIfAbsent(table, k -> new AtomicInteger()).incrementAndGet();
+                    case "executeUpdate", "execute" -> {
+                        ROWS.computeIfAbsent(table, k -> new AtomicInteger()).incrementAndGet();
+                        SINGLES.computeIfAbsent(table, k -> new AtomicInteger()).incrementAndGet();
+                    }
+                    default -> { }
+                }
+                return result;
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResultHook {
+        Object apply(java.lang.reflect.Method method, Object[] args, Object result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultHook hook) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> {
+            try {
+                return hook.apply(method, args, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+}
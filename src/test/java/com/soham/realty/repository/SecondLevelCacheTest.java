@@ -0,0 +1,161 @@
+package com.soham.realty.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.soham.realty.entity.CacheRegions;
+import com.soham.realty.entity.Property;
+import com.soham.realty.entity.PropertyImage;
+import com.soham.realty.entity.User;
+import com.soham.realty.service.CustomUserDetailsService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        propertyRepository.deleteAll();
+        userRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void repeatedDetailReadIsServedFromTheCache() {
+        Long id = propertyRepository.save(newProperty("Cached villa", true, 3)).getId();
+        entityManagerFactory.getCache().evictAll();
+
+        // Each read runs in its own persistence context, as separate requests would
+        List<String> first = statementsFor(() -> imageUrls(id), 1);
+        List<String> repeat = statementsFor(() -> imageUrls(id), 0);
+        assertEquals(first, repeat);
+        assertEquals(3, repeat.size());
+        assertTrue(statistics.getQueryRegionStatistics(CacheRegions.PROPERTY_DETAILS_QUERY).getHitCount() > 0);
+    }
+
+    @Test
+    void writeInvalidatesTheCachedDetail() {
+        Long id = propertyRepository.save(newProperty("Cached villa", true, 2)).getId();
+        statementsFor(() -> imageUrls(id), null);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Property property = propertyRepository.findById(id).orElseThrow();
+            property.setTitle("Renamed villa");
+            PropertyImage image = new PropertyImage();
+            image.setImageUrl("/api/files/extra.jpg");
+            image.setImageOrder(5);
+            property.addImage(image);
+        });
+
+        String title = transactionTemplate.execute(status ->
+            propertyRepository.findByIdWithImages(id).orElseThrow().getTitle());
+        assertEquals("Renamed villa", title);
+        assertEquals(3, statementsFor(() -> imageUrls(id), 0).size());
+    }
+
+    @Test
+    void repeatedFeaturedQueryIsServedFromTheQueryCache() {
+        propertyRepository.save(newProperty("Featured one", true, 0));
+        propertyRepository.save(newProperty("Featured two", true, 0));
+        propertyRepository.save(newProperty("Not featured", false, 0));
+
+        List<Long> first = statementsFor(this::featuredIds, 1);
+        List<Long> repeat = statementsFor(this::featuredIds, 0);
+        assertEquals(2, first.size());
+        assertEquals(first, repeat);
+        assertTrue(statistics.getQueryRegionStatistics(CacheRegions.FEATURED_QUERY).getHitCount() > 0);
+    }
+
+    @Test
+    void repeatedUserLookupIsServedFromTheCache() {
+        User user = new User();
+        user.setName("Admin");
+        user.setUsername("admin");
+        user.setEmail("admin@example.com");
+        user.setPassword("secret");
+        Long id = userRepository.save(user).getId();
+        entityManagerFactory.getCache().evictAll();
+
+        statementsFor(() -> customUserDetailsService.loadUserById(id), 1);
+        UserDetails repeat = statementsFor(() -> customUserDetailsService.loadUserById(id), 0);
+        assertEquals("admin", repeat.getUsername());
+    }
+
+    private List<String> imageUrls(Long id) {
+        return transactionTemplate.execute(status -> propertyRepository.findByIdWithImages(id).orElseThrow()
+            .getImages().stream().map(PropertyImage::getImageUrl).toList());
+    }
+
+    private List<Long> featuredIds() {
+        return transactionTemplate.execute(status -> propertyRepository.findFeaturedPropertiesByStatus("Available")
+            .stream().map(Property::getId).toList());
+    }
+
+    // Runs the read and checks how many statements reached the database; null skips the check
+    private <T> T statementsFor(Supplier<T> read, Integer expected) {
+        statistics.clear();
+        T result = read.get();
+        if (expected != null) {
+            assertEquals(expected.longValue(), statistics.getPrepareStatementCount());
+        }
+        return result;
+    }
+
+    private static Property newProperty(String title, boolean featured, int images) {
+        Property property = new Property();
+        property.setTitle(title);
+        property.setPrice(new BigDecimal("4500000"));
+        property.setDescription("Two bedroom flat");
+        property.setAddress("7 Lake Road");
+        property.setCity("Pune");
+        property.setState("Maharashtra");
+        property.setZip("411001");
+        property.setPropertyType("Flat");
+        property.setFeatured(featured);
+        for (int i = 0; i < images; i++) {
+            PropertyImage image = new PropertyImage();
+            image.setImageUrl("/api/files/" + title.replace(' ', '_') + "_" + i + ".jpg");
+            image.setImageOrder(i);
+            property.addImage(image);
+        }
+        return property;
+    }
+}
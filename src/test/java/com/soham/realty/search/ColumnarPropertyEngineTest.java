@@ -0,0 +1,123 @@
+package com.soham.realty.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.soham.realty.dto.request.SearchRequest;
+
+class ColumnarPropertyEngineTest {
+
+    private static final String[] TYPES = {"House", "Flat", "Villa"};
+    private static final String[] CITIES = {"Pune", "Mumbai", "Nashik"};
+
+    private final ColumnarPropertyEngine engine = new ColumnarPropertyEngine();
+    private final Map<Long, PropertyDocument> documents = new HashMap<>();
+    private final Random random = new Random(7);
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 500; id++) {
+            documents.put(id, randomDocument(id));
+        }
+        engine.rebuild(documents.values());
+    }
+
+    @Test
+    void matchesReferenceFilterAndSort() {
+        for (int i = 0; i < 200; i++) {
+            SearchRequest request = randomRequest();
+            assertSameResults(request);
+        }
+    }
+
+    @Test
+    void appliesIncrementalChanges() {
+        for (long id = 1; id <= 100; id++) {
+            PropertyDocument before = documents.get(id);
+            if (id % 3 == 0) {
+                documents.remove(id);
+                engine.onChange(before, null);
+            } else {
+                PropertyDocument after = randomDocument(id);
+                documents.put(id, after);
+                engine.onChange(before, after);
+            }
+        }
+        for (long id = 501; id <= 550; id++) {
+            PropertyDocument created = randomDocument(id);
+            documents.put(id, created);
+            engine.onChange(null, created);
+        }
+
+        assertEquals(documents.size(), engine.size());
+        for (int i = 0; i < 100; i++) {
+            assertSameResults(randomRequest());
+        }
+    }
+
+    private void assertSameResults(SearchRequest request) {
+        PropertyFilter filter = PropertyFilter.from(request);
+        PropertySort sort = PropertySort.from(request.getSortBy());
+        int offset = (request.getPage() - 1) * request.getLimit();
+
+        List<Long> expected = documents.values().stream()
+            .filter(filter::matches)
+            .sorted(sort.comparator())
+            .map(PropertyDocument::getId)
+            .collect(Collectors.toList());
+
+        ColumnarPropertyEngine.Result result = engine.query(filter, sort, offset, request.getLimit());
+        assertEquals(expected.size(), result.getTotal(), request.toString());
+        List<Long> expectedPage = new ArrayList<>(expected.subList(
+            Math.min(offset, expected.size()), Math.min(offset + request.getLimit(), expected.size())));
+        assertEquals(expectedPage, result.getIds(), request.toString());
+    }
+
+    private SearchRequest randomRequest() {
+        SearchRequest request = new SearchRequest();
+        if (random.nextBoolean()) {
+            request.setPropertyType(TYPES[random.nextInt(TYPES.length)]);
+        }
+        if (random.nextBoolean()) {
+            request.setBedrooms(random.nextInt(5) + "+");
+        }
+        if (random.nextBoolean()) {
+            int min = 1_000_000 + random.nextInt(5_000_000);
+            request.setPriceRange(random.nextBoolean() ? min + "-" + (min + 3_000_000) : String.valueOf(min));
+        }
+        if (random.nextInt(3) == 0) {
+            request.setLocation(CITIES[random.nextInt(CITIES.length)].substring(0, 3));
+        }
+        request.setSortBy(new String[] {"newest", "priceLow", "priceHigh"}[random.nextInt(3)]);
+        request.setPage(1 + random.nextInt(4));
+        request.setLimit(9);
+        return request;
+    }
+
+    private PropertyDocument randomDocument(long id) {
+        return PropertyDocument.builder()
+            .id(id)
+            .title("Property " + id)
+            .address(id + " Main Road")
+            .city(CITIES[random.nextInt(CITIES.length)])
+            .zip("4110" + (10 + random.nextInt(80)))
+            .propertyType(TYPES[random.nextInt(TYPES.length)])
+            .status(random.nextBoolean() ? "Available" : "Sold")
+            // Few distinct prices so the id tie-breaker is exercised
+            .price(BigDecimal.valueOf(1_000_000L + random.nextInt(20) * 250_000L))
+            .bedrooms(random.nextInt(6))
+            .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(random.nextInt(1000)))
+            .build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.soham.realty.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.soham.realty.dto.request.SearchRequest;
+import com.soham.realty.dto.response.PropertyFacetsResponse;
+import com.soham.realty.event.PropertyImportEvent;
+
+class PropertyFacetCounterTest {
+
+    private final PropertyCatalog catalog = new PropertyCatalog(null, List.of());
+    private final PropertyFacetCounter counter = new PropertyFacetCounter(catalog);
+    private final List<PropertyDocument> documents = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        add(1L, "Villa", "Pune", 4, "7500000", "Available");
+        add(2L, "Villa", "Pune", 3, "4800000", "Sold");
+        add(3L, "Flat", "Pune", 2, "2400000", "Available");
+        add(4L, "Flat", "Mumbai", 1, "9900000", "Available");
+        add(5L, "Flat", "Mumbai", 2, "12500000", "Pending");
+        add(6L, "House", "Nashik", 3, "3100000", "Available");
+        catalog.onPropertyImport(new PropertyImportEvent(documents));
+    }
+
+    @Test
+    void countsEveryFacetWithoutFilters() {
+        PropertyFacetsResponse facets = count(new SearchRequest());
+
+        assertEquals(6, facets.getTotal());
+        assertEquals(2L, facets.getPropertyTypes().get("Villa"));
+        assertEquals(3L, facets.getPropertyTypes().get("Flat"));
+        assertEquals(0L, facets.getPropertyTypes().get("Condo"));
+        assertEquals(List.of(6L, 5L, 3L, 1L, 0L), List.copyOf(facets.getBedrooms().values()));
+        assertEquals(Map.of("Available", 4L, "Sold", 1L, "Pending", 1L), facets.getStatus());
+        assertEquals(List.of("Pune", "Mumbai", "Nashik"), List.copyOf(facets.getCities().keySet()));
+        assertEquals(List.of(1L, 2L, 2L, 1L, 0L, 0L), histogram(facets));
+    }
+
+    @Test
+    void leavesEachFacetsOwnFilterOutOfItsCounts() {
+        SearchRequest request = new SearchRequest();
+        request.setPropertyType("Flat");
+        request.setLocation("Mumbai");
+        PropertyFacetsResponse facets = count(request);
+
+        assertEquals(2, facets.getTotal());
+        // Types are counted within Mumbai, cities within flats
+        assertEquals(2L, facets.getPropertyTypes().get("Flat"));
+        assertEquals(0L, facets.getPropertyTypes().get("Villa"));
+        assertEquals(Map.of("Mumbai", 2L, "Pune", 1L), facets.getCities());
+        assertEquals(List.of(2L, 1L, 0L, 0L, 0L), List.copyOf(facets.getBedrooms().values()));
+        assertEquals(List.of(0L, 0L, 1L, 1L, 0L, 0L), histogram(facets));
+
+        request.setBedrooms("2+");
+        request.setPriceRange("0-10000000");
+        facets = count(request);
+        assertEquals(0, facets.getTotal());
+        // Picking a different price bucket or dropping the bedroom filter would still find listings
+        assertEquals(List.of(0L, 0L, 0L, 1L, 0L, 0L), histogram(facets));
+        assertEquals(List.of(1L, 0L, 0L, 0L, 0L), List.copyOf(facets.getBedrooms().values()));
+    }
+
+    @Test
+    void narrowsEveryFacetToTheTextMatches() {
+        PropertyFacetsResponse facets = counter.count(PropertyFilter.from(new SearchRequest()), List.of(1L, 4L, 99L));
+
+        assertEquals(2, facets.getTotal());
+        assertEquals(Map.of("Pune", 1L, "Mumbai", 1L), facets.getCities());
+    }
+
+    @Test
+    void bucketsFractionalPricesAtTheBoundaries() {
+        add(7L, "Flat", "Pune", 1, "2499999.50", "Available");
+        add(8L, "Flat", "Pune", 1, "2500000.00", "Available");
+        catalog.onPropertyImport(new PropertyImportEvent(documents.subList(6, 8)));
+
+        PropertyFacetsResponse facets = count(new SearchRequest());
+        assertEquals(List.of(2L, 3L, 2L, 1L, 0L, 0L), histogram(facets));
+
+        // Every bucket's range, passed back as the filter, finds exactly the listings it counted
+        for (PropertyFacetsResponse.PriceBucket bucket : facets.getPriceHistogram()) {
+            SearchRequest request = new SearchRequest();
+            request.setPriceRange(bucket.getRange());
+            assertEquals(bucket.getCount(), count(request).getTotal(), bucket.getRange());
+        }
+        assertEquals("0-2499999.99", facets.getPriceHistogram().get(0).getRange());
+    }
+
+    private PropertyFacetsResponse count(SearchRequest request) {
+        return counter.count(PropertyFilter.from(request), null);
+    }
+
+    private static List<Long> histogram(PropertyFacetsResponse facets) {
+        return facets.getPriceHistogram().stream()
+            .map(PropertyFacetsResponse.PriceBucket::getCount)
+            .collect(Collectors.toList());
+    }
+
+    private void add(Long id, String type, String city, int bedrooms, String price, String status) {
+        documents.add(PropertyDocument.builder()
+            .id(id)
+            .version(0L)
+            .title(type + " in " + city)
+            .city(city)
+            .propertyType(type)
+            .bedrooms(bedrooms)
+            .price(new BigDecimal(price))
+            .status(status)
+            .build());
+    }
+}
@@ -0,0 +1,127 @@
+package com.soham.realty.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PropertySearchIndexTest {
+
+    private final PropertySearchIndex index = new PropertySearchIndex();
+    private final Map<Long, PropertyDocument> documents = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        add(document(1L, "Garden villa", "Quiet lane with a lawn", "12 Koregaon Park", "Pune", "411001"));
+        add(document(2L, "Compact flat", "Walk to the villa district", "3 Baner Road", "Pune", "411045"));
+        add(document(3L, "Sea view villas", "Three villas by the beach", "7 Marine Drive", "Mumbai", "400020"));
+        add(document(4L, "Studio", "Close to the station, garden shared with the building", "9 Station Road", "Nashik", "422001"));
+        index.rebuild(documents.values());
+    }
+
+    @Test
+    void tokenizesOnAnythingButLettersAndDigits() {
+        assertEquals(List.of("koregaon", "park", "pune", "411001"), PropertySearchIndex.tokenize("Koregaon-Park, PUNE 411001"));
+        assertEquals(List.of("café", "2bhk"), PropertySearchIndex.tokenize("  Café / 2BHK! "));
+        assertTrue(PropertySearchIndex.tokenize(null).isEmpty());
+        assertTrue(PropertySearchIndex.tokenize(" -- ").isEmpty());
+        assertTrue(index.search("?!").isEmpty());
+    }
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        // "garden" is in the title of 1 and only in the description of 4
+        assertEquals(List.of(1L, 4L), ranked("garden"));
+        // Any field is searched: address, city and zip
+        assertEquals(Set.of(2L), index.search("baner").keySet());
+        assertEquals(Set.of(1L, 2L), index.search("pune").keySet());
+        assertEquals(Set.of(4L), index.search("422001").keySet());
+    }
+
+    @Test
+    void requiresEveryTermAndExpandsOnlyTheLast() {
+        assertEquals(Set.of(1L), index.search("garden pune").keySet());
+        assertTrue(index.search("garden mumbai").isEmpty());
+
+        // The last term is a prefix, so a partly typed word matches
+        assertEquals(Set.of(1L, 4L), index.search("gard").keySet());
+        assertEquals(Set.of(1L, 2L, 3L), index.search("villa").keySet());
+        // Earlier terms must match whole tokens
+        assertTrue(index.search("gard pune").isEmpty());
+
+        // Otherwise identical listings: the exact token ranks above the prefix match
+        index.rebuild(List.of(
+            document(7L, "Hill villas", null, null, "Pune", null),
+            document(8L, "Hill villa", null, null, "Pune", null)));
+        assertEquals(List.of(8L, 7L), ranked("villa"));
+    }
+
+    @Test
+    void appliesUpdatesAndRemovals() {
+        PropertyDocument before = documents.get(2L);
+        PropertyDocument after = document(2L, "Compact loft", "Walk to the market", "3 Baner Road", "Pune", "411045");
+        documents.put(2L, after);
+        index.onChange(before, after);
+
+        assertEquals(Set.of(1L, 3L), index.search("villa").keySet());
+        assertEquals(Set.of(2L), index.search("loft").keySet());
+        assertTrue(index.search("flat").isEmpty());
+
+        index.onChange(documents.remove(3L), null);
+        PropertyDocument created = document(5L, "Villa with a pool", null, "1 Hill Road", "Lonavala", "410401");
+        add(created);
+        index.onChange(null, created);
+
+        assertEquals(Set.of(1L, 5L), index.search("villa").keySet());
+        assertTrue(index.search("mumbai").isEmpty());
+
+        // Incremental changes leave the same scores as building from scratch
+        PropertySearchIndex rebuilt = new PropertySearchIndex();
+        rebuilt.rebuild(documents.values());
+        for (String query : List.of("villa", "road", "pune", "walk to", "garden")) {
+            assertEquals(rebuilt.search(query), index.search(query), query);
+        }
+    }
+
+    @Test
+    void rebuildReplacesTheWholeIndex() {
+        index.rebuild(List.of(document(9L, "Farmhouse", null, null, "Nashik", null)));
+
+        assertTrue(index.search("villa").isEmpty());
+        assertEquals(Set.of(9L), index.search("nashik").keySet());
+
+        index.rebuild(List.of());
+        assertTrue(index.search("nashik").isEmpty());
+    }
+
+    private List<Long> ranked(String query) {
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(index.search(query).entrySet());
+        entries.sort(Map.Entry.<Long, Double>comparingByValue().reversed());
+        List<Long> ids = new ArrayList<>();
+        entries.forEach(entry -> ids.add(entry.getKey()));
+        return ids;
+    }
+
+    private void add(PropertyDocument document) {
+        documents.put(document.getId(), document);
+    }
+
+    private static PropertyDocument document(Long id, String title, String description, String address,
+                                             String city, String zip) {
+        return PropertyDocument.builder()
+            .id(id)
+            .title(title)
+            .description(description)
+            .address(address)
+            .city(city)
+            .zip(zip)
+            .build();
+    }
+}
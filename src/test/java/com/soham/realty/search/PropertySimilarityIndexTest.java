@@ -0,0 +1,98 @@
+package com.soham.realty.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PropertySimilarityIndexTest {
+
+    private final PropertySimilarityIndex index = new PropertySimilarityIndex();
+    private final List<PropertyDocument> documents = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        documents.add(listing(1L, "Villa", "Pune", "7500000", 2000, 4, 3, "Available"));
+        documents.add(listing(2L, "Villa", "Pune", "8000000", 2000, 4, 3, "Available"));
+        documents.add(listing(3L, "Villa", "Pune", "9000000", 2000, 4, 3, "Available"));
+        documents.add(listing(4L, "Villa", "Mumbai", "7500000", 2000, 4, 3, "Available"));
+        documents.add(listing(5L, "Flat", "Pune", "7500000", 2000, 4, 3, "Available"));
+        documents.add(listing(6L, "Villa", "Pune", "7500000", 2000, 4, 3, "Sold"));
+        // Only the price is known; the missing features must not count against it
+        documents.add(listing(7L, "Villa", "Pune", "7500000", null, null, null, "Available"));
+        index.rebuild(documents);
+    }
+
+    @Test
+    void ordersAvailableListingsNearestFirst() {
+        // Type and city mismatches cost a fixed penalty, the city more than the type
+        assertEquals(List.of(7L, 2L, 3L, 5L, 4L), index.similarTo(documents.get(0), 10));
+        assertEquals(List.of(7L, 2L), index.similarTo(documents.get(0), 2));
+        assertEquals(6, index.size());
+    }
+
+    @Test
+    void neverReturnsTheListingItself() {
+        // Not even when the query copy says it is sold while the indexed copy is available
+        PropertyDocument soldCopy = listing(1L, "Villa", "Pune", "7500000", 2000, 4, 3, "Sold");
+        assertEquals(List.of(7L, 2L, 3L, 5L, 4L), index.similarTo(soldCopy, 10));
+
+        // A sold listing still gets recommendations, but never itself or other sold ones
+        assertEquals(List.of(1L, 7L, 2L, 3L, 5L, 4L), index.similarTo(documents.get(5), 10));
+    }
+
+    @Test
+    void ignoresFeaturesMissingFromTheQuery() {
+        PropertyDocument priceOnly = listing(99L, "Villa", "Pune", "9000000", null, null, null, "Available");
+
+        assertEquals(List.of(3L, 2L), index.similarTo(priceOnly, 2));
+    }
+
+    @Test
+    void dropsListingsThatAreSoldOrDeleted() {
+        PropertyDocument sold = listing(2L, "Villa", "Pune", "8000000", 2000, 4, 3, "Sold");
+        index.onChange(documents.get(1), sold);
+        index.onChange(documents.get(6), null);
+
+        assertEquals(List.of(3L, 5L, 4L), index.similarTo(documents.get(0), 10));
+
+        // Freed slots are reused for new listings
+        index.onChange(null, listing(8L, "Villa", "Pune", "7600000", 2000, 4, 3, "Available"));
+        assertEquals(List.of(8L, 3L, 5L, 4L), index.similarTo(documents.get(0), 10));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void growsPastItsInitialCapacity() {
+        // Every listing costs a little more than the one before, so nearness follows the id
+        List<PropertyDocument> many = LongStream.rangeClosed(1, 3_000)
+            .mapToObj(id -> listing(id, "Flat", "Nashik",
+                String.valueOf(1_000_000 + id * 10_000), null, null, null, "Available"))
+            .collect(Collectors.toList());
+        index.rebuild(many);
+
+        PropertyDocument query = listing(0L, "Flat", "Nashik", "1000000", null, null, null, "Available");
+        assertEquals(LongStream.rangeClosed(1, 12).boxed().collect(Collectors.toList()), index.similarTo(query, 12));
+        assertEquals(3_000, index.size());
+    }
+
+    private static PropertyDocument listing(Long id, String type, String city, String price, Integer area,
+                                            Integer bedrooms, Integer bathrooms, String status) {
+        return PropertyDocument.builder()
+            .id(id)
+            .propertyType(type)
+            .city(city)
+            .price(new BigDecimal(price))
+            .squareFootage(area)
+            .bedrooms(bedrooms)
+            .bathrooms(bathrooms != null ? BigDecimal.valueOf(bathrooms) : null)
+            .status(status)
+            .build();
+    }
+}
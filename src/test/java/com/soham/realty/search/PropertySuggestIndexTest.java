@@ -0,0 +1,106 @@
+package com.soham.realty.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.soham.realty.dto.response.SuggestionResponse;
+
+class PropertySuggestIndexTest {
+
+    private final PropertySuggestIndex index = new PropertySuggestIndex();
+    private final List<PropertyDocument> documents = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        documents.add(document(1L, "Pune villa", "12 Koregaon Park", "Pune", "411001"));
+        documents.add(document(2L, "Pune flat", "3 Koregaon Lane", "Pune", "411001"));
+        documents.add(document(3L, "Punawale studio", "8 Station Road", "Punawale", "411033"));
+        documents.add(document(4L, "Sea view flat", "7 Marine Drive", "Mumbai", "400020"));
+        index.rebuild(documents);
+    }
+
+    @Test
+    void matchesTheTypedPrefixInAnyCase() {
+        // Address words are suggested as the tokens the search index matches on
+        assertEquals(List.of("koregaon"), texts("  KOREG "));
+        assertEquals(List.of("411001", "411033"), texts("4110"));
+        // Short and all-digit address words are not suggested
+        assertTrue(texts("12").isEmpty());
+        assertTrue(texts("xyz").isEmpty());
+        assertTrue(texts(" ").isEmpty());
+        assertTrue(index.suggest(null, 5).isEmpty());
+    }
+
+    @Test
+    void ranksByListingCountThenTypeThenLength() {
+        List<SuggestionResponse> suggestions = index.suggest("pun", 10);
+
+        assertEquals(List.of("Pune:CITY:2", "Punawale:CITY:1", "Pune flat:TITLE:1", "Pune villa:TITLE:1",
+                "Punawale studio:TITLE:1"),
+            suggestions.stream().map(s -> s.getText() + ":" + s.getType() + ":" + s.getCount()).collect(Collectors.toList()));
+    }
+
+    @Test
+    void returnsOnlyTheBestUpToTheLimit() {
+        assertEquals(List.of("Pune", "Punawale"), texts("pun", 2));
+        assertEquals(List.of("Pune"), texts("pun", 1));
+        assertTrue(index.suggest("pun", 0).isEmpty());
+
+        // A large index gives the same top entries as ranking the whole range
+        Random random = new Random(11);
+        for (long id = 10; id < 2_000; id++) {
+            documents.add(document(id, "Listing " + id, random.nextInt(500) + " Main Road",
+                "Town" + random.nextInt(300), "41" + random.nextInt(10_000)));
+        }
+        index.rebuild(documents);
+        List<SuggestionResponse> ranked = index.suggest("t", 10_000);
+        for (int i = 1; i < ranked.size(); i++) {
+            assertTrue(ranked.get(i - 1).getCount() >= ranked.get(i).getCount());
+        }
+        List<String> all = ranked.stream().map(SuggestionResponse::getText).collect(Collectors.toList());
+        for (int limit : new int[] {1, 5, 20, 100}) {
+            assertEquals(all.subList(0, limit), texts("t", limit));
+        }
+    }
+
+    @Test
+    void followsCountsThroughChanges() {
+        PropertyDocument moved = document(2L, "Pune flat", "3 Koregaon Lane", "Mumbai", "400020");
+        index.onChange(documents.get(1), moved);
+        index.onChange(documents.get(0), null);
+
+        assertTrue(texts("pune").stream().noneMatch("Pune"::equals));
+        assertEquals(List.of("Mumbai"), texts("mum"));
+        assertEquals(2, index.suggest("mum", 1).get(0).getCount());
+        assertEquals(List.of("koregaon"), texts("kor"));
+
+        index.onChange(null, document(5L, "Garden home", "1 Hill Road", "Pune", "411001"));
+        assertEquals(List.of("Pune"), texts("pune", 1));
+    }
+
+    private List<String> texts(String query) {
+        return texts(query, 10);
+    }
+
+    private List<String> texts(String query, int limit) {
+        return index.suggest(query, limit).stream().map(SuggestionResponse::getText).collect(Collectors.toList());
+    }
+
+    private static PropertyDocument document(Long id, String title, String address, String city, String zip) {
+        return PropertyDocument.builder()
+            .id(id)
+            .title(title)
+            .address(address)
+            .city(city)
+            .zip(zip)
+            .build();
+    }
+}
@@ -0,0 +1,238 @@
+package com.soham.realty.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.soham.realty.dto.request.PropertyBulkRequest;
+import com.soham.realty.dto.request.SearchRequest;
+import com.soham.realty.dto.response.PropertyBulkResponse;
+import com.soham.realty.entity.Contact;
+import com.soham.realty.entity.Property;
+import com.soham.realty.entity.PropertyImage;
+import com.soham.realty.exception.BadRequestException;
+import com.soham.realty.repository.ContactRepository;
+import com.soham.realty.repository.PropertyRepository;
+import com.soham.realty.search.PropertyCatalog;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class PropertyBulkUpdateTest {
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private PropertyCatalog propertyCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        contactRepository.deleteAll();
+        propertyRepository.deleteAll();
+        propertyCatalog.load();
+    }
+
+    @Test
+    void updatesWithOneStatementHoweverManyRowsMatch() {
+        List<Long> few = create(10, "Flat");
+        List<Long> many = create(40, "Villa");
+
+        statistics.clear();
+        propertyService.bulkUpdate(request(setStatus("Sold", few)));
+        long fewStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        PropertyBulkResponse result = propertyService.bulkUpdate(request(setStatus("Sold", many)));
+
+        assertEquals(fewStatements, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(40, result.getAffected());
+        assertTrue(propertyRepository.findAllById(many).stream().allMatch(p -> "Sold".equals(p.getStatus())));
+    }
+
+    @Test
+    void skipsListingsAlreadyInTheRequestedState() {
+        List<Long> ids = create(3, "Flat");
+        propertyService.bulkUpdate(request(setStatus("Sold", ids.subList(0, 1))));
+        Long missing = ids.get(2) + 1_000;
+
+        List<Long> targets = new ArrayList<>(ids);
+        targets.add(missing);
+        PropertyBulkResponse result = propertyService.bulkUpdate(request(setStatus("Sold", targets)));
+
+        PropertyBulkResponse.OperationResult operation = result.getOperations().get(0);
+        assertEquals(3, operation.getMatched());
+        assertEquals(2, operation.getAffected());
+        assertEquals(List.of(missing), operation.getNotFound());
+        assertEquals(2, result.getAffected());
+        // The skipped listing was not rewritten: its version moved only for the first request
+        assertEquals(1L, version(ids.get(0)));
+        assertEquals(1L, version(ids.get(1)));
+    }
+
+    @Test
+    void bumpsTheVersionLikeAnOrdinaryUpdate() {
+        Long id = create(1, "Flat").get(0);
+        Property stale = propertyRepository.findById(id).orElseThrow();
+
+        PropertyBulkRequest operations = request(setStatus("Sold", List.of(id)));
+        PropertyBulkRequest.Operation feature = new PropertyBulkRequest.Operation();
+        feature.setAction(PropertyBulkRequest.Action.SET_FEATURED);
+        feature.setFeatured(true);
+        feature.setIds(List.of(id));
+        operations.getOperations().add(feature);
+        PropertyBulkResponse result = propertyService.bulkUpdate(operations);
+
+        // Two operations, two increments; the catalog copy agrees with the row
+        assertEquals(1, result.getAffected());
+        assertEquals(2L, version(id));
+        assertEquals(2L, propertyCatalog.get(id).orElseThrow().getVersion());
+        assertTrue(propertyCatalog.get(id).orElseThrow().getFeatured());
+
+        // A copy read before the bulk update now fails its optimistic lock
+        stale.setTitle("Edited from a stale form");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> propertyRepository.save(stale));
+    }
+
+    @Test
+    void refusesFiltersThatMatchTooManyListings() {
+        create(5_001, "Loft");
+        SearchRequest lofts = new SearchRequest();
+        lofts.setPropertyType("Loft");
+        PropertyBulkRequest.Operation operation = new PropertyBulkRequest.Operation();
+        operation.setAction(PropertyBulkRequest.Action.SET_STATUS);
+        operation.setStatus("Sold");
+        operation.setFilter(lofts);
+
+        BadRequestException error = assertThrows(BadRequestException.class,
+            () -> propertyService.bulkUpdate(request(operation)));
+
+        assertEquals("Filter matches more than 5000 properties", error.getMessage());
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM properties WHERE status = 'Sold'", Integer.class));
+        // In one statement; deleting them through the repository is slow
+        jdbcTemplate.update("DELETE FROM properties WHERE property_type = 'Loft'");
+    }
+
+    @Test
+    void deletesListingsButKeepsTheirEnquiries() {
+        List<Property> withImages = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Property property = listing("Flat " + i, "Flat");
+            PropertyImage image = new PropertyImage();
+            image.setImageUrl("/api/files/bulk_" + i + ".jpg");
+            image.setImageOrder(0);
+            property.addImage(image);
+            withImages.add(property);
+        }
+        List<Long> ids = create(withImages);
+        Property listing = propertyRepository.findById(ids.get(0)).orElseThrow();
+        Contact enquiry = new Contact();
+        enquiry.setName("Buyer");
+        enquiry.setEmail("buyer@example.com");
+        enquiry.setMessage("Is this still available?");
+        enquiry.setProperty(listing);
+        Long enquiryId = contactRepository.save(enquiry).getId();
+
+        PropertyBulkRequest.Operation delete = new PropertyBulkRequest.Operation();
+        delete.setAction(PropertyBulkRequest.Action.DELETE);
+        delete.setIds(ids);
+        PropertyBulkResponse result = propertyService.bulkUpdate(request(delete));
+
+        assertEquals(2, result.getAffected());
+        assertFalse(propertyRepository.existsById(ids.get(0)));
+        assertFalse(propertyCatalog.get(ids.get(0)).isPresent());
+        // Images go with their listings
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM property_images WHERE property_id IN (?, ?)", Integer.class, ids.get(0), ids.get(1)));
+        // The enquiry stays, as a general one
+        assertTrue(contactRepository.existsById(enquiryId));
+        assertNull(jdbcTemplate.queryForObject(
+            "SELECT property_id FROM contacts WHERE id = ?", Long.class, enquiryId));
+    }
+
+    private List<Long> create(int count, String type) {
+        return create(IntStream.range(0, count)
+            .mapToObj(i -> listing(type + " " + i, type))
+            .collect(Collectors.toList()));
+    }
+
+    private List<Long> create(List<Property> properties) {
+        List<Long> ids = propertyRepository.saveAll(properties).stream()
+            .map(Property::getId)
+            .collect(Collectors.toList());
+        propertyCatalog.load();
+        return ids;
+    }
+
+    private long version(Long id) {
+        return jdbcTemplate.queryForObject("SELECT version FROM properties WHERE id = ?", Long.class, id);
+    }
+
+    private static PropertyBulkRequest request(PropertyBulkRequest.Operation operation) {
+        PropertyBulkRequest request = new PropertyBulkRequest();
+        request.setOperations(new ArrayList<>(List.of(operation)));
+        return request;
+    }
+
+    private static PropertyBulkRequest.Operation setStatus(String status, List<Long> ids) {
+        PropertyBulkRequest.Operation operation = new PropertyBulkRequest.Operation();
+        operation.setAction(PropertyBulkRequest.Action.SET_STATUS);
+        operation.setStatus(status);
+        operation.setIds(ids);
+        return operation;
+    }
+
+    private static Property listing(String title, String type) {
+        Property property = new Property();
+        property.setTitle(title);
+        property.setPrice(new BigDecimal("4500000"));
+        property.setDescription("Listing for bulk updates");
+        property.setAddress("21 Hill Road");
+        property.setCity("Pune");
+        property.setState("Maharashtra");
+        property.setZip("411001");
+        property.setPropertyType(type);
+        property.setStatus("Available");
+        return property;
+    }
+}
@@ -0,0 +1,199 @@
+package com.soham.realty.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import com.soham.realty.dto.response.PropertyImportResponse;
+import com.soham.realty.entity.Property;
+import com.soham.realty.event.PropertyImportCompletedEvent;
+import com.soham.realty.event.PropertyImportEvent;
+import com.soham.realty.repository.PropertyRepository;
+import com.soham.realty.search.PropertyCatalog;
+
+@SpringBootTest(properties = "app.import.batch-size=2")
+@RecordApplicationEvents
+class PropertyImportServiceTest {
+
+    private static final String CSV_HEADER =
+        "title,price,address,city,state,zip,propertyType,bedrooms,status,latitude,longitude\n";
+
+    @Autowired
+    private PropertyImportService propertyImportService;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PropertyCatalog propertyCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("ALTER TABLE properties DROP CONSTRAINT IF EXISTS import_test_reject");
+        propertyRepository.deleteAll();
+        propertyCatalog.load();
+    }
+
+    @Test
+    void importsCsvAndReportsEachRejectedRow() throws Exception {
+        String csv = CSV_HEADER
+            + "Garden villa,7500000,12 Koregaon Park,Pune,Maharashtra,411001,Villa,4,,18.53,73.89\n"
+            // Blank cells take the request defaults
+            + "\"Flat, near the station\",2500000,3 Baner Road,Pune,Maharashtra,411045,Flat,,Sold,,\n"
+            + "Bad zip villa,6500000,4 Koregaon Park,Pune,Maharashtra,4110,Villa,3,,,\n"
+            + "No price villa,,5 Koregaon Park,Pune,Maharashtra,411001,Castle,3,,,\n"
+            + "Priced in words,a lot,6 Koregaon Park,Pune,Maharashtra,411001,Villa,3,,,\n";
+
+        PropertyImportResponse report = importCsv(csv);
+
+        assertEquals(5, report.getTotalRows());
+        assertEquals(2, report.getImported());
+        assertEquals(3, report.getFailed());
+        assertFalse(report.isErrorsTruncated());
+        assertEquals(List.of(3L, 4L, 5L), report.getErrors().stream()
+            .map(PropertyImportResponse.RowError::getRow).collect(Collectors.toList()));
+        assertEquals("zip: ZIP code must be exactly 6 digits", report.getErrors().get(0).getMessage());
+        assertEquals("price: Price is required; propertyType: Invalid property type", report.getErrors().get(1).getMessage());
+        assertTrue(report.getErrors().get(2).getMessage().startsWith("Malformed row: "));
+
+        Property flat = propertyRepository.findAll().stream()
+            .filter(p -> p.getTitle().equals("Flat, near the station"))
+            .findFirst().orElseThrow();
+        assertEquals(0, flat.getBedrooms());
+        assertEquals("Sold", flat.getStatus());
+        assertEquals(0, new BigDecimal("2500000").compareTo(flat.getPrice()));
+        // Imported rows are searchable straight away
+        assertTrue(propertyCatalog.get(flat.getId()).isPresent());
+    }
+
+    @Test
+    void stopsAtInputItCannotParse() throws Exception {
+        String csv = CSV_HEADER
+            + "Garden villa,7500000,12 Koregaon Park,Pune,Maharashtra,411001,Villa,4,,,\n"
+            + "\"Unterminated,7500000,13 Koregaon Park,Pune,Maharashtra,411001,Villa,4,,,\n"
+            + "Lake villa,7500000,14 Koregaon Park,Pune,Maharashtra,411001,Villa,4,,,\n";
+
+        PropertyImportResponse report = importCsv(csv);
+
+        assertEquals(1, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertTrue(report.getErrors().get(0).getMessage().startsWith("Unreadable input, import stopped"));
+    }
+
+    @Test
+    void importsNdjsonSkippingBlankAndMalformedLines() throws Exception {
+        String ndjson = row("Garden villa") + "\n"
+            + "\n"
+            + "{\"title\": \"Broken\n"
+            + row("Lake villa") + "\n"
+            + "{\"title\": \"Vil\", \"price\": 5000}\n";
+
+        PropertyImportResponse report = importNdjson(ndjson);
+
+        assertEquals(4, report.getTotalRows());
+        assertEquals(2, report.getImported());
+        assertEquals(List.of(2L, 4L), report.getErrors().stream()
+            .map(PropertyImportResponse.RowError::getRow).collect(Collectors.toList()));
+        assertTrue(report.getErrors().get(0).getMessage().startsWith("Malformed row: "));
+        assertTrue(report.getErrors().get(1).getMessage().contains("title: Title must be between 5 and 200 characters"));
+    }
+
+    @Test
+    void capsTheErrorListButCountsEveryFailure() throws Exception {
+        String ndjson = "{}\n".repeat(1_005) + row("Garden villa") + "\n";
+
+        PropertyImportResponse report = importNdjson(ndjson);
+
+        assertEquals(1_006, report.getTotalRows());
+        assertEquals(1, report.getImported());
+        assertEquals(1_005, report.getFailed());
+        assertEquals(1_000, report.getErrors().size());
+        assertTrue(report.isErrorsTruncated());
+        assertEquals(1_000L, report.getErrors().get(999).getRow());
+    }
+
+    @Test
+    void rollsBackOnlyTheBatchTheDatabaseRejects() throws Exception {
+        // Passes validation, but the database refuses it
+        jdbcTemplate.execute("ALTER TABLE properties ADD CONSTRAINT import_test_reject CHECK (title <> 'Rejected villa')");
+        Long lastLogId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM property_change_log", Long.class);
+
+        // Batches of two: rows 3 and 4 share a batch
+        String ndjson = String.join("\n", row("Villa one"), row("Villa two"), row("Villa three"),
+            row("Rejected villa"), row("Villa five")) + "\n";
+        PropertyImportResponse report = importNdjson(ndjson);
+
+        assertEquals(3, report.getImported());
+        assertEquals(List.of(3L, 4L), report.getErrors().stream()
+            .map(PropertyImportResponse.RowError::getRow).collect(Collectors.toList()));
+        assertTrue(report.getErrors().get(0).getMessage().startsWith("Database error: "));
+        Set<String> titles = propertyRepository.findAll().stream().map(Property::getTitle).collect(Collectors.toSet());
+        assertEquals(Set.of("Villa one", "Villa two", "Villa five"), titles);
+
+        // The change log holds exactly the committed rows
+        Set<Long> ids = propertyRepository.findAll().stream().map(Property::getId).collect(Collectors.toSet());
+        List<Long> logged = jdbcTemplate.queryForList(
+            "SELECT property_id FROM property_change_log WHERE id > ?", Long.class, lastLogId);
+        assertEquals(ids.size(), logged.size());
+        assertEquals(ids, Set.copyOf(logged));
+        assertEquals(3, propertyCatalog.size());
+    }
+
+    @Test
+    void announcesTheImportOnceAfterTheLastBatch() throws Exception {
+        String ndjson = String.join("\n", row("Villa one"), row("Villa two"), row("Villa three"),
+            row("Villa four"), row("Villa five")) + "\n";
+
+        PropertyImportResponse report = importNdjson(ndjson);
+
+        // Three batches reach the change log and catalog; caches and streams hear about it once
+        assertEquals(5, report.getImported());
+        assertEquals(List.of(2, 2, 1), events.stream(PropertyImportEvent.class)
+            .map(event -> event.getDocuments().size()).collect(Collectors.toList()));
+        assertEquals(List.of(5L), events.stream(PropertyImportCompletedEvent.class)
+            .map(PropertyImportCompletedEvent::getImported).collect(Collectors.toList()));
+        assertEquals(5, propertyCatalog.size());
+
+        // Nothing imported, nothing announced
+        events.clear();
+        importNdjson("{}\n");
+        assertEquals(0, events.stream(PropertyImportCompletedEvent.class).count());
+    }
+
+    private PropertyImportResponse importCsv(String csv) throws Exception {
+        return propertyImportService.importProperties(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), PropertyImportService.Format.CSV);
+    }
+
+    private PropertyImportResponse importNdjson(String ndjson) throws Exception {
+        return propertyImportService.importProperties(
+            new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), PropertyImportService.Format.NDJSON);
+    }
+
+    private static String row(String title) {
+        return "{\"title\": \"" + title + "\", \"price\": 6500000, \"address\": \"12 Koregaon Park\", \"city\": \"Pune\","
+            + " \"state\": \"Maharashtra\", \"zip\": \"411001\", \"propertyType\": \"Villa\","
+            + " \"latitude\": 18.53, \"longitude\": 73.89}";
+    }
+}
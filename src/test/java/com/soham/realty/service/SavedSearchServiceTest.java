@@ -0,0 +1,252 @@
+package com.soham.realty.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.soham.realty.dto.request.PropertyRequest;
+import com.soham.realty.dto.request.SavedSearchRequest;
+import com.soham.realty.entity.Property;
+import com.soham.realty.entity.SavedSearch;
+import com.soham.realty.event.PropertyImportEvent;
+import com.soham.realty.repository.PropertyRepository;
+import com.soham.realty.repository.SavedSearchMatchRepository;
+import com.soham.realty.repository.SavedSearchRepository;
+import com.soham.realty.search.PropertyCatalog;
+import com.soham.realty.search.PropertyDocument;
+import com.soham.realty.search.SavedSearchIndex;
+import com.soham.realty.service.impl.SavedSearchServiceImpl;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SavedSearchServiceTest {
+
+    private static final long WAIT_MS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SavedSearchService savedSearchService;
+
+    @Autowired
+    private SavedSearchServiceImpl savedSearchSync;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private SavedSearchRepository savedSearchRepository;
+
+    @Autowired
+    private SavedSearchMatchRepository savedSearchMatchRepository;
+
+    @Autowired
+    private SavedSearchIndex savedSearchIndex;
+
+    @Autowired
+    private PropertyCatalog propertyCatalog;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    @Qualifier("asyncExecutor")
+    private ThreadPoolTaskExecutor asyncExecutor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        awaitMatching();
+        savedSearchMatchRepository.deleteAll();
+        savedSearchRepository.deleteAll();
+        savedSearchIndex.rebuild(Map.of());
+        propertyRepository.deleteAll();
+        propertyCatalog.load();
+    }
+
+    @Test
+    void filesCommittedListingsInTheInboxesTheyMatch() throws Exception {
+        String koregaonVillas = save("Koregaon villas", "Koregaon", "Villa", "5000000-8000000");
+        String baner = save("Anything in Baner", "Baner", null, null);
+        String cheapFlats = save("Cheap flats", null, "Flat", "0-3000000");
+
+        Long villa = propertyService.createProperty(listing("Garden villa", "Villa", "7500000", "12 Koregaon Park")).getId();
+        Long flat = propertyService.createProperty(listing("Compact flat", "Flat", "2500000", "3 Baner Road")).getId();
+        // Right place and type, but above the saved price range
+        Long pricey = propertyService.createProperty(listing("Grand villa", "Villa", "9000000", "8 Koregaon Park")).getId();
+        // Matches on criteria, but only available listings are announced
+        PropertyRequest sold = listing("Sold villa", "Villa", "6000000", "4 Koregaon Park");
+        sold.setStatus("Sold");
+        propertyService.createProperty(sold);
+        awaitMatching();
+
+        assertEquals(List.of(villa), inbox(koregaonVillas));
+        assertEquals(List.of(flat), inbox(baner));
+        assertEquals(List.of(flat), inbox(cheapFlats));
+
+        // An update that brings a listing into range files it, newest first
+        propertyService.updateProperty(pricey, listing("Grand villa", "Villa", "7000000", "8 Koregaon Park"));
+        awaitMatching();
+        assertEquals(List.of(pricey, villa), inbox(koregaonVillas));
+
+        // Deleted listings leave every inbox
+        propertyService.deleteProperty(villa);
+        awaitMatching();
+        assertEquals(List.of(pricey), inbox(koregaonVillas));
+        assertEquals(0, savedSearchMatchRepository.findAll().stream()
+            .filter(match -> match.getPropertyId().equals(villa))
+            .count());
+    }
+
+    @Test
+    void notifiesEachSearchAboutAListingOnce() throws Exception {
+        String token = save("Koregaon villas", "Koregaon", "Villa", null);
+        Long villa = propertyService.createProperty(listing("Garden villa", "Villa", "7500000", "12 Koregaon Park")).getId();
+        awaitMatching();
+
+        // Still matching after an update: no second entry
+        propertyService.updateProperty(villa, listing("Garden villa, repainted", "Villa", "7400000", "12 Koregaon Park"));
+        awaitMatching();
+        assertEquals(List.of(villa), inbox(token));
+
+        // An import that carries an already-filed listing alongside a new one keeps the new one
+        Property fresh = propertyRepository.save(entity("Lake villa", "6 Koregaon Park"));
+        List<PropertyDocument> documents = List.of(
+            PropertyDocument.from(propertyRepository.findById(villa).orElseThrow()),
+            PropertyDocument.from(fresh));
+        eventPublisher.publishEvent(new PropertyImportEvent(documents));
+        awaitMatching();
+
+        assertEquals(List.of(fresh.getId(), villa).stream().sorted().collect(Collectors.toList()),
+            inbox(token).stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    void pagesTheInboxWithinBounds() throws Exception {
+        String token = save("Koregaon villas", "Koregaon", "Villa", null);
+        for (int i = 0; i < 12; i++) {
+            propertyService.createProperty(listing("Villa " + i, "Villa", "7500000", i + " Koregaon Park"));
+        }
+        awaitMatching();
+
+        mockMvc.perform(get("/api/saved-searches/" + token + "/matches").param("page", "3").param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(12))
+            .andExpect(jsonPath("$.totalPages").value(3))
+            .andExpect(jsonPath("$.data.length()").value(2));
+        // Out-of-range paging is clamped instead of failing
+        mockMvc.perform(get("/api/saved-searches/" + token + "/matches").param("page", "0").param("limit", "0"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.page").value(1))
+            .andExpect(jsonPath("$.limit").value(1))
+            .andExpect(jsonPath("$.data.length()").value(1));
+        mockMvc.perform(get("/api/saved-searches/" + token + "/matches").param("limit", "100000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.limit").value(100))
+            .andExpect(jsonPath("$.data.length()").value(12));
+    }
+
+    @Test
+    void followsSearchesSavedAndDeletedThroughOtherInstances() throws Exception {
+        // Written straight to the table, as another instance would; this instance's index never saw it
+        SavedSearch elsewhere = new SavedSearch();
+        elsewhere.setName("Koregaon villas");
+        elsewhere.setEmail("buyer@example.com");
+        elsewhere.setAccessToken("saved-on-another-instance");
+        elsewhere.setLocation("Koregaon");
+        elsewhere.setPropertyType("Villa");
+        elsewhere = savedSearchRepository.save(elsewhere);
+        String local = save("Anything in Koregaon", "Koregaon", null, null);
+
+        savedSearchSync.syncIndex();
+        Long villa = propertyService.createProperty(listing("Garden villa", "Villa", "7500000", "12 Koregaon Park")).getId();
+        awaitMatching();
+        assertEquals(List.of(villa), inbox(elsewhere.getAccessToken()));
+        assertEquals(List.of(villa), inbox(local));
+
+        // Deleted elsewhere: no longer matched here
+        Long elsewhereId = elsewhere.getId();
+        savedSearchMatchRepository.deleteAll(savedSearchMatchRepository.findAll().stream()
+            .filter(match -> match.getSavedSearchId().equals(elsewhereId))
+            .collect(Collectors.toList()));
+        savedSearchRepository.deleteById(elsewhereId);
+        savedSearchSync.syncIndex();
+        Long lake = propertyService.createProperty(listing("Lake villa", "Villa", "6500000", "6 Koregaon Park")).getId();
+        awaitMatching();
+        assertEquals(List.of(lake, villa), inbox(local));
+        assertEquals(2, savedSearchMatchRepository.count());
+    }
+
+    private String save(String name, String location, String propertyType, String priceRange) {
+        SavedSearchRequest request = new SavedSearchRequest();
+        request.setName(name);
+        request.setEmail("buyer@example.com");
+        request.setLocation(location);
+        request.setPropertyType(propertyType);
+        request.setPriceRange(priceRange);
+        return savedSearchService.createSavedSearch(request).getAccessToken();
+    }
+
+    private List<Long> inbox(String token) {
+        return savedSearchService.getMatches(token, 1, 100).getData().stream()
+            .map(match -> match.getProperty().getId())
+            .collect(Collectors.toList());
+    }
+
+    // Matching runs on the async executor; commit listeners have queued their work by the time a write returns
+    private void awaitMatching() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        while (asyncExecutor.getActiveCount() > 0 || asyncExecutor.getThreadPoolExecutor().getQueue().size() > 0) {
+            assertTrue(System.currentTimeMillis() < deadline, "Saved search matching did not finish");
+            Thread.sleep(10);
+        }
+    }
+
+    private static PropertyRequest listing(String title, String propertyType, String price, String address) {
+        PropertyRequest request = new PropertyRequest();
+        request.setTitle(title);
+        request.setPrice(new BigDecimal(price));
+        request.setDescription("Listing for saved search matching");
+        request.setAddress(address);
+        request.setCity("Pune");
+        request.setState("Maharashtra");
+        request.setZip("411001");
+        request.setPropertyType(propertyType);
+        request.setFeatured(false);
+        return request;
+    }
+
+    private static Property entity(String title, String address) {
+        Property property = new Property();
+        property.setTitle(title);
+        property.setPrice(new BigDecimal("6500000"));
+        property.setDescription("Listing for saved search matching");
+        property.setAddress(address);
+        property.setCity("Pune");
+        property.setState("Maharashtra");
+        property.setZip("411001");
+        property.setPropertyType("Villa");
+        property.setStatus("Available");
+        return property;
+    }
+}
@@ -0,0 +1,92 @@
+package com.soham.realty.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import com.soham.realty.config.CacheConfig;
+import com.soham.realty.dto.request.PropertyRequest;
+import com.soham.realty.dto.response.WarmupReportResponse;
+import com.soham.realty.repository.PropertyRepository;
+import com.soham.realty.search.PropertyCatalog;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Runs against a real port so the HTTP replay has a server to call.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "app.warmup.iterations=20")
+class WarmupServiceTest {
+
+    @Autowired
+    private WarmupService warmupService;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PropertyCatalog propertyCatalog;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        propertyRepository.deleteAll();
+        propertyCatalog.load();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void warmsEveryTaskAndReportsIt() {
+        Long featuredId = propertyService.createProperty(request("Lakeside villa", true)).getId();
+        Long otherId = propertyService.createProperty(request("Garden flat", false)).getId();
+
+        WarmupReportResponse report = warmupService.warmUp();
+
+        Map<String, WarmupReportResponse.TaskResult> tasks = report.getTasks().stream()
+            .collect(Collectors.toMap(WarmupReportResponse.TaskResult::getName, task -> task));
+        assertTrue(report.isCompleted());
+        tasks.values().forEach(task -> assertEquals("completed", task.getStatus(), task.getName()));
+        assertEquals(dataSource.getMaximumPoolSize(), tasks.get("connection-pool").getWarmed());
+        assertEquals(2, tasks.get("property-details").getWarmed());
+        assertEquals(20, tasks.get("jwt").getWarmed());
+        // Listing, featured and both details, each plain and gzipped
+        assertEquals(8, tasks.get("http").getWarmed());
+
+        assertTrue(cacheManager.getCache(CacheConfig.FEATURED_PROPERTIES).get(CacheConfig.FEATURED_KEY) != null);
+        assertTrue(cacheManager.getCache(CacheConfig.PROPERTY_DETAILS).get(featuredId) != null);
+        assertTrue(cacheManager.getCache(CacheConfig.PROPERTY_DETAILS).get(otherId) != null);
+        assertEquals(report, warmupService.getLastReport().orElseThrow());
+    }
+
+    private static PropertyRequest request(String title, boolean featured) {
+        PropertyRequest request = new PropertyRequest();
+        request.setTitle(title);
+        request.setPrice(new BigDecimal("6500000"));
+        request.setDescription("Two bedroom home near the lake");
+        request.setAddress("3 Lake Road");
+        request.setCity("Pune");
+        request.setState("Maharashtra");
+        request.setZip("411001");
+        request.setPropertyType("Villa");
+        request.setBedrooms(2);
+        request.setFeatured(featured);
+        return request;
+    }
+}